@@ -4,14 +4,16 @@ import br.dev.ctrls.api.infrastructure.config.props.BrevoProperties;
 import br.dev.ctrls.api.infrastructure.config.props.CloudinaryProperties;
 import br.dev.ctrls.api.infrastructure.config.props.CtrlsProperties;
 import br.dev.ctrls.api.infrastructure.config.props.IntegrationProperties;
+import br.dev.ctrls.api.infrastructure.config.props.PdfStorageProperties;
+import br.dev.ctrls.api.infrastructure.config.props.PublicFormProperties;
 import br.dev.ctrls.api.infrastructure.config.props.RateLimiterProperties;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
 import br.dev.ctrls.api.infrastructure.config.props.ThirdPartyProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
-import org.springframework.retry.annotation.EnableRetry;
 
 @SpringBootApplication
 @EnableFeignClients(basePackages = "br.dev.ctrls.api.client")
@@ -21,10 +23,12 @@ import org.springframework.retry.annotation.EnableRetry;
         CloudinaryProperties.class,
         IntegrationProperties.class,
         ThirdPartyProperties.class,
-        RateLimiterProperties.class
+        RateLimiterProperties.class,
+        SubmissionProperties.class,
+        PdfStorageProperties.class,
+        PublicFormProperties.class
 })
 @EnableCaching
-@EnableRetry
 public class ApiApplication {
 
     public static void main(String[] args) {
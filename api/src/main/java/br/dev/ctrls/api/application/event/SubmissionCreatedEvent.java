@@ -13,9 +13,13 @@ public class SubmissionCreatedEvent extends ApplicationEvent {
 
     private final UUID submissionId;
 
-    public SubmissionCreatedEvent(Object source, UUID submissionId) {
+    /** Clínica da submissão; pode ser nulo para entradas antigas do outbox. */
+    private final UUID clinicId;
+
+    public SubmissionCreatedEvent(Object source, UUID submissionId, UUID clinicId) {
         super(source);
         this.submissionId = submissionId;
+        this.clinicId = clinicId;
     }
 }
 
@@ -0,0 +1,95 @@
+package br.dev.ctrls.api.application.service.document;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.function.BiConsumer;
+
+/**
+ * Percorre o answersJson de uma submissão com o JsonParser do Jackson (streaming).
+ *
+ * Nenhuma árvore é montada: cada resposta é formatada direto dos tokens e entregue
+ * ao consumidor na ordem em que aparece no JSON.
+ *
+ * FORMATAÇÃO:
+ * - Booleano: "Sim" / "Não"
+ * - Array (checkbox): itens separados por ", " (arrays aninhados são achatados)
+ * - Objeto: "chave: valor; chave: valor"
+ * - null, string em branco, array/objeto vazio: não respondida (não é entregue)
+ */
+final class AnswerReader {
+
+    private AnswerReader() {
+    }
+
+    /**
+     * Entrega (chave, texto formatado) de cada resposta preenchida.
+     *
+     * @throws IOException se o JSON for inválido ou não for um objeto
+     */
+    static void forEach(JsonFactory jsonFactory, String answersJson, BiConsumer<String, String> consumer)
+            throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(answersJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "answersJson deve ser um objeto JSON");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                parser.nextToken();
+                StringBuilder text = new StringBuilder();
+                append(parser, text);
+                if (!text.isEmpty()) {
+                    consumer.accept(key, text.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Formata o valor no token atual, deixando o parser no último token dele.
+     */
+    private static void append(JsonParser parser, StringBuilder text) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_TRUE -> text.append("Sim");
+            case VALUE_FALSE -> text.append("Não");
+            case VALUE_NULL -> { }
+            case VALUE_STRING -> {
+                String value = parser.getText();
+                if (!value.isBlank()) {
+                    text.append(value);
+                }
+            }
+            case START_ARRAY -> {
+                int begin = text.length();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    appendItem(parser, text, text.length() == begin ? "" : ", ");
+                }
+            }
+            case START_OBJECT -> {
+                int begin = text.length();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    appendItem(parser, text, (text.length() == begin ? "" : "; ") + name + ": ");
+                }
+            }
+            // Números e demais escalares: texto original do JSON
+            default -> text.append(parser.getText());
+        }
+    }
+
+    /**
+     * Acrescenta um item de array/objeto precedido do prefixo; itens vazios não deixam rastro.
+     */
+    private static void appendItem(JsonParser parser, StringBuilder text, String prefix) throws IOException {
+        int mark = text.length();
+        text.append(prefix);
+        int start = text.length();
+        append(parser, text);
+        if (text.length() == start) {
+            text.setLength(mark);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package br.dev.ctrls.api.application.service.document;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plano de renderização compilado a partir do schemaJson de um FormTemplate.
+ *
+ * Imutável e compartilhado entre threads: o PdfService só percorre as respostas
+ * da submissão seguindo a ordem das seções e campos, sem reinterpretar o schema.
+ *
+ * @param title    título do formulário (cabeçalho do PDF)
+ * @param sections seções na ordem do schema (título null = seção sem cabeçalho)
+ * @param fields   campos indexados pelo ID da resposta
+ */
+record PdfLayout(String title, List<Section> sections, Map<String, Field> fields) {
+
+    /**
+     * Layout sem schema utilizável: todas as respostas saem em "Outras respostas" com a chave crua.
+     */
+    static PdfLayout empty(String title) {
+        return new PdfLayout(title, List.of(), Map.of());
+    }
+
+    record Section(String title, List<Field> fields) {
+    }
+
+    /**
+     * @param id     chave da resposta em answersJson
+     * @param label  texto da pergunta
+     * @param prefix texto impresso antes da resposta ("label: "), montado na compilação
+     */
+    record Field(String id, String label, String prefix) {
+
+        Field(String id, String label) {
+            this(id, label, label + ": ");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package br.dev.ctrls.api.application.service.document;
+
+import br.dev.ctrls.api.domain.form.FormTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compila o schemaJson de um FormTemplate em um PdfLayout reutilizável.
+ *
+ * FORMATOS ACEITOS:
+ * - Array de campos (formato do front): [{"id": "sintomas", "label": "Quais sintomas?", ...}]
+ * - {"fields": [...]} - campos como objetos ou como strings (ID = rótulo)
+ * - {"sections": [{"title": "Histórico", "fields": [...]}]}
+ *
+ * CACHE: chave (ID do template, updatedAt). Editar o template muda o updatedAt,
+ * então a versão antiga simplesmente deixa de ser consultada e expira por tamanho.
+ * Schema inválido gera um layout vazio (chaves cruas no PDF) - o PDF nunca deixa de sair.
+ *
+ * Métricas: cache.* com tag cache = pdf.layouts.
+ */
+@Slf4j
+@Component
+public class PdfLayoutCompiler {
+
+    private static final int MAX_LAYOUTS = 1_000;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<LayoutKey, PdfLayout> layouts;
+
+    public PdfLayoutCompiler(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.layouts = Caffeine.newBuilder()
+                .maximumSize(MAX_LAYOUTS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, layouts, "pdf.layouts");
+    }
+
+    /**
+     * Retorna o layout do template, compilando só na primeira vez para cada versão.
+     */
+    public PdfLayout layoutFor(FormTemplate template) {
+        if (template.getId() == null || template.getUpdatedAt() == null) {
+            return compile(template);
+        }
+        return layouts.get(new LayoutKey(template.getId(), template.getUpdatedAt()), key -> compile(template));
+    }
+
+    PdfLayout compile(FormTemplate template) {
+        String title = template.getTitle();
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(template.getSchemaJson() == null ? "" : template.getSchemaJson());
+        } catch (JsonProcessingException ex) {
+            log.warn("⚠️ schemaJson inválido no template {} - PDF usará as chaves das respostas: {}",
+                    template.getId(), ex.getOriginalMessage());
+            return PdfLayout.empty(title);
+        }
+        if (root == null) {
+            return PdfLayout.empty(title);
+        }
+
+        Map<String, PdfLayout.Field> fields = new LinkedHashMap<>();
+        List<PdfLayout.Section> sections = new ArrayList<>();
+
+        if (root.isArray()) {
+            addSection(sections, fields, null, root);
+        } else if (root.path("sections").isArray()) {
+            for (JsonNode section : root.path("sections")) {
+                addSection(sections, fields, text(section, "title"), section.path("fields"));
+            }
+        } else {
+            addSection(sections, fields, null, root.path("fields"));
+        }
+
+        log.debug("Layout de PDF compilado para template {}: {} seções, {} campos",
+                template.getId(), sections.size(), fields.size());
+        return new PdfLayout(title, List.copyOf(sections), Map.copyOf(fields));
+    }
+
+    private static void addSection(List<PdfLayout.Section> sections, Map<String, PdfLayout.Field> fields,
+                                   String title, JsonNode nodes) {
+        List<PdfLayout.Field> sectionFields = new ArrayList<>();
+        for (JsonNode node : nodes) {
+            PdfLayout.Field field = field(node);
+            // ID repetido: vale a primeira ocorrência, a resposta sai uma vez só
+            if (field != null && fields.putIfAbsent(field.id(), field) == null) {
+                sectionFields.add(field);
+            }
+        }
+        if (!sectionFields.isEmpty()) {
+            sections.add(new PdfLayout.Section(title, List.copyOf(sectionFields)));
+        }
+    }
+
+    private static PdfLayout.Field field(JsonNode node) {
+        if (node.isTextual()) {
+            return node.asText().isBlank() ? null : new PdfLayout.Field(node.asText(), node.asText());
+        }
+        String id = text(node, "id");
+        if (id == null) {
+            return null;
+        }
+        String label = text(node, "label");
+        return new PdfLayout.Field(id, label != null ? label : id);
+    }
+
+    private static String text(JsonNode node, String name) {
+        JsonNode value = node.path(name);
+        return value.isValueNode() && !value.asText().isBlank() ? value.asText() : null;
+    }
+
+    private record LayoutKey(UUID templateId, Instant updatedAt) {
+    }
+}
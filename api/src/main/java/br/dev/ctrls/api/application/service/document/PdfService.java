@@ -2,52 +2,98 @@ package br.dev.ctrls.api.application.service.document;
 
 import br.dev.ctrls.api.domain.form.FormTemplate;
 import br.dev.ctrls.api.domain.submission.Submission;
+import com.lowagie.text.Chunk;
 import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
-import com.lowagie.text.Font;
-import com.lowagie.text.FontFactory;
 import com.lowagie.text.Paragraph;
 import com.lowagie.text.pdf.PdfWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONObject;
 import org.springframework.stereotype.Service;
 
 /**
  * Serviço utilitário para geração de PDFs em memória.
+ *
+ * O schema do template é compilado uma vez (PdfLayoutCompiler) e reaproveitado:
+ * gerar o PDF de uma submissão é só percorrer as respostas na ordem do layout,
+ * imprimindo o rótulo de cada pergunta no lugar da chave crua.
+ *
+ * As respostas são lidas em uma única passada pelo JsonParser (AnswerReader), sem
+ * montar árvore: só o texto já formatado de cada resposta fica em memória, na ordem
+ * original do envio (usada em "Outras respostas").
  */
 @Slf4j
 @Service
 public class PdfService {
 
+    /** Tamanho típico de uma anamnese: evita as cópias de crescimento do buffer. */
+    private static final int INITIAL_BUFFER = 16 * 1024;
+
+    private static final String OTHER_ANSWERS = "Outras respostas";
+
+    private final PdfLayoutCompiler layoutCompiler;
+    private final JsonFactory jsonFactory;
+
+    public PdfService(PdfLayoutCompiler layoutCompiler, ObjectMapper objectMapper) {
+        this.layoutCompiler = layoutCompiler;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
     public byte[] generateAnamnesisPdf(Submission submission, FormTemplate template) {
         log.debug("Gerando PDF para submissão: {}", submission.getId());
 
-        Document document = null;
-        ByteArrayOutputStream baos = null;
+        PdfLayout layout = layoutCompiler.layoutFor(template);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(INITIAL_BUFFER);
+        Document document = new Document();
 
         try {
-            baos = new ByteArrayOutputStream();
-            document = new Document();
             PdfWriter.getInstance(document, baos);
             document.open();
 
-            // Título
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
-            document.add(new Paragraph("Anamnese - " + submission.getPatientName(), titleFont));
-            document.add(new Paragraph("CPF: " + submission.getPatientCpf()));
-            document.add(new Paragraph("Formulário: " + template.getTitle()));
-            document.add(new Paragraph(" "));
-
-            // Respostas
-            JSONObject json = new JSONObject(submission.getAnswersJson());
-            for (String key : json.keySet()) {
-                Object value = json.get(key);
-                Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
-                document.add(new Paragraph(key + ": " + value, normalFont));
+            // Cabeçalho
+            document.add(new Paragraph("Anamnese - " + submission.getPatientName(), PdfStyles.TITLE));
+            document.add(new Paragraph("CPF: " + submission.getPatientCpf(), PdfStyles.META));
+            document.add(new Paragraph("Formulário: " + layout.title(), PdfStyles.META));
+
+            // Respostas preenchidas, já formatadas, na ordem do JSON
+            Map<String, String> answers = new LinkedHashMap<>();
+            AnswerReader.forEach(jsonFactory, submission.getAnswersJson(), answers::put);
+
+            // Respostas na ordem do schema
+            for (PdfLayout.Section section : layout.sections()) {
+                boolean headerWritten = section.title() == null;
+                for (PdfLayout.Field field : section.fields()) {
+                    String value = answers.get(field.id());
+                    if (value == null) {
+                        continue;
+                    }
+                    if (!headerWritten) {
+                        addSectionTitle(document, section.title());
+                        headerWritten = true;
+                    }
+                    addAnswer(document, field.prefix(), value);
+                }
+            }
+
+            // Respostas sem campo no schema (template editado depois do envio, schema inválido...)
+            boolean otherWritten = false;
+            for (Map.Entry<String, String> answer : answers.entrySet()) {
+                if (layout.fields().containsKey(answer.getKey())) {
+                    continue;
+                }
+                if (!otherWritten) {
+                    addSectionTitle(document, OTHER_ANSWERS);
+                    otherWritten = true;
+                }
+                addAnswer(document, answer.getKey() + ": ", answer.getValue());
             }
 
+            // Fecha antes de copiar o buffer: o close() grava o xref e o trailer do PDF
+            document.close();
             log.info("PDF gerado com sucesso para submissão: {}", submission.getId());
             return baos.toByteArray();
 
@@ -60,22 +106,28 @@ public class PdfService {
             throw new PdfGenerationException("Erro inesperado na geração do PDF", ex);
 
         } finally {
-            // ✅ CORREÇÃO: Garante que recursos são liberados mesmo com exceção
-            if (document != null && document.isOpen()) {
+            // Garante que recursos são liberados mesmo com exceção
+            if (document.isOpen()) {
                 try {
                     document.close();
                 } catch (Exception ex) {
                     log.warn("Erro ao fechar documento PDF", ex);
                 }
             }
-
-            if (baos != null) {
-                try {
-                    baos.close();
-                } catch (IOException ex) {
-                    log.warn("Erro ao fechar ByteArrayOutputStream", ex);
-                }
-            }
         }
     }
+
+    private static void addSectionTitle(Document document, String title) throws DocumentException {
+        Paragraph paragraph = new Paragraph(title, PdfStyles.SECTION);
+        paragraph.setSpacingBefore(PdfStyles.SECTION_SPACING);
+        document.add(paragraph);
+    }
+
+    private static void addAnswer(Document document, String prefix, String value) throws DocumentException {
+        Paragraph paragraph = new Paragraph();
+        paragraph.add(new Chunk(prefix, PdfStyles.LABEL));
+        paragraph.add(new Chunk(value, PdfStyles.VALUE));
+        paragraph.setSpacingAfter(PdfStyles.ANSWER_SPACING);
+        document.add(paragraph);
+    }
 }
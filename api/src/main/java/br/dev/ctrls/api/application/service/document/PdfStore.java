@@ -0,0 +1,104 @@
+package br.dev.ctrls.api.application.service.document;
+
+import br.dev.ctrls.api.infrastructure.config.props.PdfStorageProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Armazenamento de PDFs endereçado por conteúdo (SHA-256) em disco local.
+ *
+ * LAYOUT: {directory}/ab/cd/abcd...64 hex.pdf - dois níveis de prefixo mantêm os diretórios pequenos.
+ *
+ * Escrita atômica: o PDF vai para um arquivo temporário no mesmo diretório e é movido
+ * (ATOMIC_MOVE) para o nome final; leitores nunca veem um arquivo pela metade.
+ * O mesmo conteúdo gravado duas vezes resulta em um único arquivo.
+ */
+@Slf4j
+@Component
+public class PdfStore {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+
+    public PdfStore(PdfStorageProperties properties) {
+        this.root = Path.of(properties.getDirectory()).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Grava o PDF (se ainda não existir) e retorna o SHA-256 em hex.
+     */
+    public String store(byte[] pdf) {
+        String hash = sha256(pdf);
+        Path target = path(hash);
+        if (Files.exists(target)) {
+            return hash;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            try {
+                Files.write(temp, pdf);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Erro ao gravar PDF " + hash, ex);
+        }
+
+        log.debug("PDF armazenado: {} ({} bytes)", hash, pdf.length);
+        return hash;
+    }
+
+    /**
+     * Arquivo do PDF, se presente nesta réplica.
+     */
+    public Optional<StoredPdf> find(String hash) {
+        if (hash == null || !SHA256_HEX.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = path(hash);
+        try {
+            return Optional.of(new StoredPdf(hash, path, Files.size(path)));
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Conteúdo do PDF, se presente (usado pelo upload ao Feegow, que precisa dos bytes).
+     */
+    public Optional<byte[]> read(String hash) {
+        return find(hash).map(stored -> {
+            try {
+                return Files.readAllBytes(stored.path());
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Erro ao ler PDF " + hash, ex);
+            }
+        });
+    }
+
+    private Path path(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + ".pdf");
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 indisponível", ex);
+        }
+    }
+}
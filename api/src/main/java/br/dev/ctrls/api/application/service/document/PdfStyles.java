@@ -0,0 +1,42 @@
+package br.dev.ctrls.api.application.service.document;
+
+import com.lowagie.text.Font;
+import com.lowagie.text.pdf.BaseFont;
+import java.io.IOException;
+
+/**
+ * Fontes do PDF de anamnese, criadas uma única vez.
+ *
+ * Cada Font já carrega o BaseFont resolvido: new Font(Font.HELVETICA, ...) resolveria
+ * o BaseFont (busca sincronizada no cache do OpenPDF) a cada trecho de texto escrito.
+ * As fontes base-14 (Helvetica) não são embutidas no arquivo, então não há custo por documento.
+ * Instâncias compartilhadas: nunca alterar tamanho, estilo ou cor depois de criadas.
+ */
+final class PdfStyles {
+
+    private static final BaseFont HELVETICA = baseFont(BaseFont.HELVETICA);
+    private static final BaseFont HELVETICA_BOLD = baseFont(BaseFont.HELVETICA_BOLD);
+
+    static final Font TITLE = new Font(HELVETICA_BOLD, 16);
+    static final Font SECTION = new Font(HELVETICA_BOLD, 13);
+    static final Font LABEL = new Font(HELVETICA_BOLD, 11);
+    static final Font VALUE = new Font(HELVETICA, 11);
+    static final Font META = new Font(HELVETICA, 10);
+
+    /** Espaço antes do título de cada seção (pontos). */
+    static final float SECTION_SPACING = 10f;
+
+    /** Espaço após cada resposta (pontos). */
+    static final float ANSWER_SPACING = 4f;
+
+    private PdfStyles() {
+    }
+
+    private static BaseFont baseFont(String name) {
+        try {
+            return BaseFont.createFont(name, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Fonte base-14 indisponível: " + name, ex);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package br.dev.ctrls.api.application.service.document;
+
+import java.nio.file.Path;
+
+/**
+ * PDF presente no PdfStore.
+ *
+ * @param sha256 hash do conteúdo (também serve de ETag)
+ * @param path   arquivo em disco
+ * @param size   tamanho em bytes
+ */
+public record StoredPdf(String sha256, Path path, long size) {
+}
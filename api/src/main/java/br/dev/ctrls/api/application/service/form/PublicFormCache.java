@@ -0,0 +1,261 @@
+package br.dev.ctrls.api.application.service.form;
+
+import br.dev.ctrls.api.domain.form.FormTemplate;
+import br.dev.ctrls.api.domain.form.repository.FormTemplateRepository;
+import br.dev.ctrls.api.domain.user.Doctor;
+import br.dev.ctrls.api.infrastructure.config.props.PublicFormProperties;
+import br.dev.ctrls.api.web.dto.FormPublicViewDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Cache da visão pública dos formulários (GET /api/public/forms/{uuid}), por publicUuid.
+ *
+ * CAMADAS:
+ * 1. Near cache local (Caffeine, LRU) - o corpo HTTP pronto (PublicFormPayload: JSON + gzip)
+ * 2. Redis (JSON do DTO + versão) - compartilhado entre réplicas; o gzip é refeito uma vez por réplica
+ * 3. form_templates + clinic + doctor (entity graph)
+ * Carregamentos concorrentes do mesmo formulário na réplica são coalescidos pelo Caffeine.
+ * Formulário inexistente não é cacheado.
+ *
+ * VERSÃO (ETag): hash de (template, updatedAt do template, da clínica e do médico, formato do payload).
+ * Qualquer edição que muda o formulário público muda a versão - a mesma em todas as réplicas,
+ * então um 304 não depende de qual réplica atendeu a requisição anterior.
+ *
+ * INVALIDAÇÃO: PublicFormChangeListener publica PublicFormChangedEvent quando template,
+ * clínica ou médico mudam; após o commit as chaves afetadas saem do Redis e do near cache,
+ * e as demais réplicas são avisadas pelo canal public-form:invalidate (pub/sub).
+ * Os TTLs cobrem uma invalidação perdida (Redis fora do ar, mensagem não entregue).
+ *
+ * Um carregamento que leu o banco antes da edição não pode regravar a versão antiga no
+ * Redis depois da remoção: a invalidação deixa uma marca curta (public-form:evicted:{uuid})
+ * e a gravação, num script atômico, é descartada enquanto ela existir.
+ *
+ * Falhas do Redis são tratadas como miss - o formulário sempre é servido.
+ * Métricas: cache.* com tag cache = public.forms; public.form.cache.load (tag source = redis, database, miss).
+ */
+@Slf4j
+@Component
+public class PublicFormCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "public-form:invalidate";
+    private static final String REDIS_PREFIX = "public-form:v2:";
+    private static final String TOMBSTONE_PREFIX = "public-form:evicted:";
+    /** Incrementar quando o JSON público mudar de formato sem mudança nas entidades. */
+    private static final int PAYLOAD_FORMAT = 1;
+
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 1 then return 0 end "
+                    + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1",
+            Long.class);
+
+    private final FormTemplateRepository formTemplateRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, PublicFormPayload> nearCache;
+    private final Duration redisTtl;
+    private final Duration tombstoneTtl;
+
+    private final Counter redisLoads;
+    private final Counter databaseLoads;
+    private final Counter misses;
+
+    public PublicFormCache(FormTemplateRepository formTemplateRepository,
+                           StringRedisTemplate redisTemplate,
+                           ObjectMapper objectMapper,
+                           PublicFormProperties publicFormProperties,
+                           MeterRegistry meterRegistry) {
+        PublicFormProperties.Cache properties = publicFormProperties.getCache();
+        this.formTemplateRepository = formTemplateRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(properties.getRedisTtlSeconds());
+        this.tombstoneTtl = Duration.ofSeconds(properties.getEvictionTombstoneSeconds());
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "public.forms");
+
+        this.redisLoads = loadCounter(meterRegistry, "redis");
+        this.databaseLoads = loadCounter(meterRegistry, "database");
+        this.misses = loadCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * Corpo da visão pública do formulário, ou vazio se o publicUuid não existe.
+     */
+    public Optional<PublicFormPayload> find(UUID publicUuid) {
+        return Optional.ofNullable(nearCache.get(publicUuid, this::load));
+    }
+
+    /**
+     * Invalida os formulários afetados pela alteração, depois do commit
+     * (antes dele, um leitor concorrente recarregaria a versão antiga).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(PublicFormChangedEvent event) {
+        List<UUID> affected = switch (event.scope()) {
+            case TEMPLATE -> List.of(event.id());
+            case CLINIC -> formTemplateRepository.findPublicUuidsByClinicId(event.id());
+            case DOCTOR -> formTemplateRepository.findPublicUuidsByDoctorId(event.id());
+        };
+        if (!affected.isEmpty()) {
+            evict(affected);
+        }
+    }
+
+    /**
+     * Remove os formulários do Redis e do near cache de todas as réplicas.
+     * A marca é gravada antes da remoção para barrar carregamentos que já leram o banco.
+     */
+    public void evict(Collection<UUID> publicUuids) {
+        nearCache.invalidateAll(publicUuids);
+        try {
+            for (UUID uuid : publicUuids) {
+                redisTemplate.opsForValue().set(TOMBSTONE_PREFIX + uuid, "1", tombstoneTtl);
+            }
+            redisTemplate.delete(publicUuids.stream().map(uuid -> REDIS_PREFIX + uuid).toList());
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    publicUuids.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        } catch (Exception ex) {
+            log.warn("⚠️ Falha ao invalidar formulários públicos no Redis (expiram pelo TTL): {}", ex.getMessage());
+        }
+        log.debug("Formulários públicos invalidados: {}", publicUuids);
+    }
+
+    /**
+     * Invalidação recebida de outra réplica (ou desta mesma - inofensivo).
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            nearCache.invalidateAll(Arrays.stream(body.split(",")).map(UUID::fromString).toList());
+        } catch (IllegalArgumentException ex) {
+            log.warn("⚠️ Mensagem de invalidação inválida ignorada: {}", body);
+        }
+    }
+
+    private PublicFormPayload load(UUID publicUuid) {
+        RedisEntry shared = readRedis(publicUuid);
+        if (shared != null) {
+            redisLoads.increment();
+            return PublicFormPayload.of(shared.json().getBytes(StandardCharsets.UTF_8), shared.version(),
+                    shared.lastModified() != null ? Instant.ofEpochMilli(shared.lastModified()) : null);
+        }
+
+        Optional<FormTemplate> stored = formTemplateRepository.findByPublicUuid(publicUuid);
+        if (stored.isEmpty()) {
+            misses.increment();
+            return null;
+        }
+        databaseLoads.increment();
+        FormTemplate template = stored.get();
+        byte[] json;
+        try {
+            // Mesmo ObjectMapper do Spring MVC: o corpo é idêntico ao que o conversor geraria
+            json = objectMapper.writeValueAsBytes(FormPublicViewDTO.fromEntity(template));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Erro ao serializar formulário público " + publicUuid, ex);
+        }
+        String version = version(template);
+        Instant lastModified = lastModified(template);
+        writeRedis(publicUuid, new RedisEntry(version,
+                lastModified != null ? lastModified.toEpochMilli() : null, new String(json, StandardCharsets.UTF_8)));
+        return PublicFormPayload.of(json, version, lastModified);
+    }
+
+    /**
+     * Versão do formulário público: muda quando template, clínica ou médico são editados.
+     */
+    static String version(FormTemplate template) {
+        Doctor doctor = template.getDoctor();
+        String tuple = PAYLOAD_FORMAT + "|" + template.getId()
+                + "|" + template.getUpdatedAt()
+                + "|" + template.getClinic().getId() + "|" + template.getClinic().getUpdatedAt()
+                + "|" + (doctor != null ? doctor.getId() + "|" + doctor.getUpdatedAt() : "-");
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(tuple.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 indisponível", ex);
+        }
+    }
+
+    private static Instant lastModified(FormTemplate template) {
+        return Stream.of(template.getUpdatedAt(), template.getClinic().getUpdatedAt(),
+                        template.getDoctor() != null ? template.getDoctor().getUpdatedAt() : null)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    private RedisEntry readRedis(UUID publicUuid) {
+        try {
+            String value = redisTemplate.opsForValue().get(REDIS_PREFIX + publicUuid);
+            return value != null ? objectMapper.readValue(value, RedisEntry.class) : null;
+        } catch (Exception ex) {
+            log.debug("Falha ao consultar formulário no Redis (tratado como miss): {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Grava no Redis, exceto se o formulário foi invalidado há pouco (marca presente).
+     */
+    private void writeRedis(UUID publicUuid, RedisEntry entry) {
+        try {
+            Long written = redisTemplate.execute(WRITE_SCRIPT,
+                    List.of(REDIS_PREFIX + publicUuid, TOMBSTONE_PREFIX + publicUuid),
+                    objectMapper.writeValueAsString(entry), String.valueOf(redisTtl.toMillis()));
+            if (written != null && written == 0) {
+                log.debug("Formulário {} invalidado durante o carregamento; não regravado no Redis", publicUuid);
+            }
+        } catch (Exception ex) {
+            log.debug("Falha ao gravar formulário no Redis (ignorado): {}", ex.getMessage());
+        }
+    }
+
+    private static Counter loadCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("public.form.cache.load")
+                .description("Carregamentos do formulário público fora do near cache, por origem")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Valor no Redis: o JSON vai como string para voltar byte a byte igual em qualquer réplica.
+     */
+    record RedisEntry(String version, Long lastModified, String json) {
+    }
+}
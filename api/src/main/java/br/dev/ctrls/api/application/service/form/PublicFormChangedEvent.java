@@ -0,0 +1,18 @@
+package br.dev.ctrls.api.application.service.form;
+
+import java.util.UUID;
+
+/**
+ * Alteração que afeta a visão pública de formulários (publicada pelo PublicFormChangeListener).
+ *
+ * @param scope o que mudou
+ * @param id    publicUuid do template, ID da clínica ou ID do médico, conforme o scope
+ */
+public record PublicFormChangedEvent(Scope scope, UUID id) {
+
+    public enum Scope {
+        TEMPLATE,
+        CLINIC,
+        DOCTOR
+    }
+}
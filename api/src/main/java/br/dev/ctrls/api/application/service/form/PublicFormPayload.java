@@ -0,0 +1,68 @@
+package br.dev.ctrls.api.application.service.form;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Corpo HTTP final do formulário público: JSON UTF-8 e a variante gzip, gerados uma vez
+ * por versão do formulário e escritos direto na resposta (sem Jackson nem server.compression).
+ *
+ * VALIDADORES: version identifica a tupla (template, clínica, médico) - ver PublicFormCache.version -
+ * e vira a ETag forte; lastModified é o updatedAt mais recente da tupla (null se desconhecido).
+ * Cada codificação tem a sua ETag ("v" e "v-gzip"), como exige uma ETag forte.
+ *
+ * Os arrays são compartilhados entre requisições e nunca devem ser alterados.
+ */
+public record PublicFormPayload(byte[] json, byte[] gzip, String version, Instant lastModified) {
+
+    public static PublicFormPayload of(byte[] json, String version, Instant lastModified) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Erro ao comprimir formulário público", ex);
+        }
+        return new PublicFormPayload(json, compressed.toByteArray(), version, lastModified);
+    }
+
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzip : json;
+    }
+
+    /**
+     * ETag forte (com aspas) da representação escolhida.
+     */
+    public String etag(boolean gzipped) {
+        return "\"" + version + (gzipped ? "-gzip" : "") + "\"";
+    }
+
+    /**
+     * Se o cliente aceita gzip (token gzip ou *, sem q=0) no header Accept-Encoding.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") && param.substring(2).trim().matches("0(\\.0{0,3})?")) {
+                    rejected = true;
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,91 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Circuit breaker e bulkhead (semáforo) do Feegow, um par por clínica (token).
+ *
+ * Credenciais inválidas ou um tenant do Feegow fora do ar fazem o circuito da
+ * clínica abrir: as próximas submissões dela são recusadas sem chamada remota e
+ * estacionadas (PARKED) até o circuito meio-abrir, em vez de gastar retries e
+ * threads do worker que as outras clínicas usam. O bulkhead limita as chamadas
+ * remotas simultâneas da clínica e recusa o excedente sem esperar.
+ *
+ * São duas camadas separadas: {@link #execute} (circuito) envolve a chamada inteira,
+ * e {@link #isolate} (bulkhead) só a chamada remota, por dentro da cota e do limite
+ * adaptativo. Assim as esperas por token e por vaga não seguram permissões do bulkhead.
+ *
+ * Configuração: resilience4j.circuitbreaker.configs.default e
+ * resilience4j.bulkhead.configs.default (instâncias criadas sob demanda, feegow-&lt;clínica&gt;).
+ *
+ * Observabilidade (Resilience4j + Actuator):
+ * - /actuator/circuitbreakers, /actuator/circuitbreakerevents, /actuator/bulkheads
+ * - resilience4j.circuitbreaker.state / .calls e resilience4j.bulkhead.* (tag name)
+ * - health "circuitBreakers" (não derruba o health da aplicação)
+ */
+@Slf4j
+@Component
+public class FeegowCircuitBreakers {
+
+    private static final String PREFIX = "feegow-";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public FeegowCircuitBreakers(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    /**
+     * Executa a chamada protegida pelo circuito da clínica.
+     *
+     * Exceções do Feign passam inalteradas (o chamador as traduz); só a recusa
+     * local vira {@link FeegowUnavailableException}.
+     */
+    public <T> T execute(UUID clinicId, String operation, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(PREFIX + clinicId);
+
+        try {
+            return circuitBreaker.executeSupplier(call);
+        } catch (CallNotPermittedException ex) {
+            Duration retryAfter = openWait(circuitBreaker);
+            log.warn("Circuito do Feegow aberto para clínica {} - {} recusado, nova tentativa em {}s",
+                    clinicId, operation, retryAfter.toSeconds());
+            throw new FeegowUnavailableException(operation,
+                    "Feegow da clínica indisponível (circuito " + circuitBreaker.getState() + ")", retryAfter, ex);
+        }
+    }
+
+    /**
+     * Executa a chamada remota dentro do bulkhead da clínica, sem esperar por vaga.
+     *
+     * @throws FeegowUnavailableException se o bulkhead estiver cheio
+     */
+    public <T> T isolate(UUID clinicId, String operation, Supplier<T> call) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(PREFIX + clinicId);
+
+        try {
+            return bulkhead.executeSupplier(call);
+        } catch (BulkheadFullException ex) {
+            log.warn("Bulkhead do Feegow cheio para clínica {} - {} recusado", clinicId, operation);
+            throw new FeegowUnavailableException(operation,
+                    "Limite de chamadas simultâneas ao Feegow da clínica atingido", null, ex);
+        }
+    }
+
+    private static Duration openWait(CircuitBreaker circuitBreaker) {
+        long waitMillis = circuitBreaker.getCircuitBreakerConfig().getWaitIntervalFunctionInOpenState().apply(1);
+        return Duration.ofMillis(waitMillis);
+    }
+}
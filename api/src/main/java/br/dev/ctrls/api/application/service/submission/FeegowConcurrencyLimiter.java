@@ -0,0 +1,127 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.infrastructure.config.props.IntegrationProperties;
+import br.dev.ctrls.api.infrastructure.resilience.AdaptiveConcurrencyLimit;
+import feign.FeignException;
+import feign.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limite adaptativo de chamadas simultâneas ao Feegow, um por clínica (token).
+ *
+ * Quando o Feegow de uma clínica desacelera ou responde 429/503, o limite dela cai
+ * e as chamadas excedentes aguardam localmente (até max-wait-ms) em vez de piorar
+ * a latência do servidor. Se não houver vaga, a chamada é recusada com
+ * {@link FeegowTransientException} e o pipeline agenda um retry sem prender a thread.
+ *
+ * Métricas (tag clinic):
+ * - feegow.limiter.limit: limite atual
+ * - feegow.limiter.inflight: chamadas em andamento
+ * - feegow.limiter.waiting: chamadas aguardando vaga
+ * - feegow.limiter.shed: chamadas recusadas localmente
+ */
+@Slf4j
+@Component
+public class FeegowConcurrencyLimiter {
+
+    private final IntegrationProperties.Concurrency properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<UUID, ClinicLimit> limits = new ConcurrentHashMap<>();
+
+    public FeegowConcurrencyLimiter(IntegrationProperties integrationProperties, MeterRegistry meterRegistry) {
+        this.properties = integrationProperties.getFeegow().getConcurrency();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Executa a chamada dentro do limite da clínica, ajustando-o pelo resultado.
+     *
+     * @throws FeegowTransientException se não houver vaga dentro do tempo máximo de espera
+     */
+    public <T> T execute(UUID clinicId, String operation, Supplier<T> call) {
+        ClinicLimit clinicLimit = limits.computeIfAbsent(clinicId, this::newClinicLimit);
+        AdaptiveConcurrencyLimit limit = clinicLimit.limit;
+
+        acquire(clinicId, operation, clinicLimit);
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            limit.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RetryableException ex) {
+            limit.onDropped();
+            throw ex;
+        } catch (FeignException ex) {
+            if (ex.status() == 429 || ex.status() == 503) {
+                limit.onDropped();
+            } else {
+                limit.onIgnored();
+            }
+            throw ex;
+        } catch (RuntimeException ex) {
+            limit.onIgnored();
+            throw ex;
+        }
+    }
+
+    private void acquire(UUID clinicId, String operation, ClinicLimit clinicLimit) {
+        boolean acquired;
+        try {
+            acquired = clinicLimit.limit.tryAcquire(properties.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new FeegowTransientException(operation, "Interrompido aguardando vaga no Feegow", ex);
+        }
+
+        if (!acquired) {
+            clinicLimit.shed.increment();
+            log.warn("Limite de concorrência do Feegow atingido para clínica {} (limite={}) - {} recusado",
+                    clinicId, clinicLimit.limit.getLimit(), operation);
+            throw new FeegowTransientException(operation,
+                    "Limite de concorrência do Feegow atingido (limite=" + clinicLimit.limit.getLimit() + ")", null);
+        }
+    }
+
+    private ClinicLimit newClinicLimit(UUID clinicId) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxLimit(),
+                properties.getBackoffRatio(),
+                properties.getLatencyThresholdMs(),
+                properties.getMaxQueued());
+
+        String clinic = clinicId.toString();
+        Gauge.builder("feegow.limiter.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Limite adaptativo de chamadas simultâneas ao Feegow")
+                .tag("clinic", clinic)
+                .register(meterRegistry);
+        Gauge.builder("feegow.limiter.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Chamadas ao Feegow em andamento")
+                .tag("clinic", clinic)
+                .register(meterRegistry);
+        Gauge.builder("feegow.limiter.waiting", limit, AdaptiveConcurrencyLimit::getWaiting)
+                .description("Chamadas ao Feegow aguardando vaga no limite")
+                .tag("clinic", clinic)
+                .register(meterRegistry);
+        Counter shed = Counter.builder("feegow.limiter.shed")
+                .description("Chamadas ao Feegow recusadas localmente por falta de vaga")
+                .tag("clinic", clinic)
+                .register(meterRegistry);
+
+        return new ClinicLimit(limit, shed);
+    }
+
+    private record ClinicLimit(AdaptiveConcurrencyLimit limit, Counter shed) {
+    }
+}
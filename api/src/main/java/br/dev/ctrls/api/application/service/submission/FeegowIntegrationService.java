@@ -8,12 +8,23 @@ import feign.FeignException;
 import feign.RetryableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+import java.util.function.Supplier;
+
 /**
- * Serviço de integração com Feegow com tratamento específico de erros e retry automático.
+ * Serviço de integração com Feegow com tratamento específico de erros.
+ *
+ * RETRY: erros temporários (timeout, 429, 5xx) viram {@link FeegowTransientException}
+ * e NÃO são repetidos aqui. O SubmissionRetryScheduler agenda a nova tentativa no
+ * outbox, liberando a thread do worker durante o backoff.
+ *
+ * CONCORRÊNCIA: toda chamada passa pelo circuito ({@link FeegowCircuitBreakers}),
+ * consome a cota compartilhada do token ({@link FeegowQuotaLimiter}), passa pelo
+ * {@link FeegowConcurrencyLimiter} da clínica e, só na chamada remota, pelo bulkhead.
+ * Circuito aberto, bulkhead cheio ou cota esgotada viram {@link FeegowUnavailableException}
+ * e a submissão é estacionada (PARKED) sem consumir retry.
  */
 @Slf4j
 @Service
@@ -21,20 +32,20 @@ import org.springframework.stereotype.Service;
 public class FeegowIntegrationService {
 
     private final FeegowClient feegowClient;
+    private final FeegowConcurrencyLimiter limiter;
+    private final FeegowCircuitBreakers circuitBreakers;
+    private final FeegowQuotaLimiter quotaLimiter;
 
     /**
      * Busca ou cria paciente no Feegow.
-     * Retry automático para erros temporários (503, timeout).
+     *
+     * @throws FeegowTransientException em erros temporários (reagendados pelo pipeline)
      */
-    @Retryable(
-        retryFor = {RetryableException.class, FeignException.ServiceUnavailable.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 2000, multiplier = 2)
-    )
-    public Long resolvePatient(String token, String cpf, String name) {
+    public Long resolvePatient(UUID clinicId, String token, String cpf, String name) {
         try {
             log.debug("Buscando paciente por CPF no Feegow");
-            FeegowPatientResponse response = feegowClient.listPatients(token, cpf);
+            FeegowPatientResponse response = call(clinicId, token, "resolve",
+                    () -> feegowClient.listPatients(token, cpf));
             Long existingId = response.firstId();
 
             if (existingId != null) {
@@ -44,7 +55,8 @@ public class FeegowIntegrationService {
 
             log.info("Criando novo paciente no Feegow");
             FeegowPatientRequest createRequest = buildPatientRequest(cpf, name);
-            Long createdId = feegowClient.createPatient(token, createRequest);
+            Long createdId = call(clinicId, token, "resolve",
+                    () -> feegowClient.createPatient(token, createRequest));
             log.info("Paciente criado com sucesso no Feegow");
             return createdId;
 
@@ -60,11 +72,15 @@ public class FeegowIntegrationService {
             log.error("Acesso negado pelo Feegow (403)");
             throw new FeegowIntegrationException("Sem permissão para acessar Feegow", ex);
 
-        } catch (FeignException.ServiceUnavailable ex) {
-            log.warn("Feegow temporariamente indisponível (503) - tentando retry");
-            throw ex; // Será capturado pelo @Retryable
+        } catch (RetryableException ex) {
+            log.warn("Timeout/falha de conexão com Feegow ao resolver paciente - retry será agendado");
+            throw new FeegowTransientException("resolve", "Feegow indisponível: " + ex.getMessage(), ex);
 
         } catch (FeignException ex) {
+            if (isTransient(ex)) {
+                log.warn("Feegow temporariamente indisponível ({}) - retry será agendado", ex.status());
+                throw new FeegowTransientException("resolve", "Feegow indisponível: HTTP " + ex.status(), ex);
+            }
             log.error("Erro HTTP {} ao comunicar com Feegow: {}", ex.status(), ex.contentUTF8());
             throw new FeegowIntegrationException("Erro na integração com Feegow: HTTP " + ex.status(), ex);
         }
@@ -72,24 +88,24 @@ public class FeegowIntegrationService {
 
     /**
      * Faz upload de arquivo para o Feegow.
-     * Retry automático para erros temporários.
+     *
+     * @throws FeegowTransientException em erros temporários (reagendados pelo pipeline)
      */
-    @Retryable(
-        retryFor = {RetryableException.class, FeignException.ServiceUnavailable.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 2000, multiplier = 2)
-    )
-    public void uploadFile(String token, UploadFileRequest request) {
+    public void uploadFile(UUID clinicId, String token, UploadFileRequest request) {
         try {
             log.debug("Enviando arquivo para Feegow");
-            feegowClient.uploadPatientFile(token, request);
+            call(clinicId, token, "upload", () -> feegowClient.uploadPatientFile(token, request));
             log.info("Arquivo enviado com sucesso ao Feegow");
 
-        } catch (FeignException.ServiceUnavailable ex) {
-            log.warn("Feegow temporariamente indisponível (503) - tentando retry");
-            throw ex; // Retry automático
+        } catch (RetryableException ex) {
+            log.warn("Timeout/falha de conexão com Feegow no upload - retry será agendado");
+            throw new FeegowTransientException("upload", "Feegow indisponível: " + ex.getMessage(), ex);
 
         } catch (FeignException ex) {
+            if (isTransient(ex)) {
+                log.warn("Feegow temporariamente indisponível ({}) no upload - retry será agendado", ex.status());
+                throw new FeegowTransientException("upload", "Feegow indisponível: HTTP " + ex.status(), ex);
+            }
             // Verifica se é erro 413 (Payload Too Large)
             if (ex.status() == 413) {
                 log.error("Arquivo muito grande para upload (413)");
@@ -100,6 +116,31 @@ public class FeegowIntegrationService {
         }
     }
 
+    /**
+     * Circuito primeiro (recusa sem esperar e sem tocar no Redis), depois a cota e o limite
+     * adaptativo, e o bulkhead só em volta da chamada remota. Assim uma clínica com circuito
+     * aberto não gasta tokens do bucket que as réplicas dividem, e as esperas por token e
+     * por vaga no limite não ocupam permissões do bulkhead.
+     *
+     * Cota esgotada e bulkhead cheio lançam {@link FeegowUnavailableException} (subclasse de
+     * FeegowTransientException, ignorada pelo circuito): a submissão é estacionada (PARKED)
+     * sem consumir retry. Só a falta de vaga no limite adaptativo agenda um retry.
+     */
+    private <T> T call(UUID clinicId, String token, String operation, Supplier<T> call) {
+        return circuitBreakers.execute(clinicId, operation, () -> {
+            quotaLimiter.acquire(clinicId, token, operation);
+            return limiter.execute(clinicId, operation, () -> circuitBreakers.isolate(clinicId, operation, call));
+        });
+    }
+
+    /**
+     * 429 (rate limit) e 5xx de gateway/indisponibilidade são temporários.
+     */
+    private boolean isTransient(FeignException ex) {
+        int status = ex.status();
+        return status == 429 || status == 502 || status == 503 || status == 504;
+    }
+
     private FeegowPatientRequest buildPatientRequest(String cpf, String name) {
         // TODO: Implementar mapeamento completo com dados adicionais do paciente
         // Por enquanto, usa valores padrão
@@ -0,0 +1,166 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache CPF → ID do paciente no Feegow, por clínica.
+ *
+ * CAMADAS (da mais barata para a mais cara):
+ * 1. Near cache local (Caffeine) - sem rede
+ * 2. Redis - compartilhado entre réplicas
+ * 3. Tabela submissions - feegow_patient_id de submissões anteriores
+ * Um acerto em camada inferior popula as superiores.
+ *
+ * A chave usa o HMAC-SHA256 do CPF (só dígitos) com um segredo dedicado
+ * (submission.patient-cache.key-secret), obrigatório: sem ele a aplicação não sobe.
+ * Um hash simples não bastaria: com ~10^9 CPFs possíveis, quem lê o Redis reverteria
+ * todas as chaves por força bruta. Sem o segredo, a chave não identifica o paciente.
+ * Falhas do Redis são tratadas como miss - o cache nunca impede o processamento.
+ *
+ * Métrica: feegow.patient.cache (tag result = local, redis, database, miss).
+ */
+@Slf4j
+@Component
+public class FeegowPatientCache {
+
+    private static final String REDIS_PREFIX = "feegow:patient:";
+    private static final String KEY_ALGORITHM = "HmacSHA256";
+
+    private final SubmissionRepository submissionRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Long> nearCache;
+    private final Duration redisTtl;
+    private final SecretKeySpec keySecret;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    public FeegowPatientCache(SubmissionRepository submissionRepository,
+                              StringRedisTemplate redisTemplate,
+                              SubmissionProperties submissionProperties,
+                              MeterRegistry meterRegistry) {
+        SubmissionProperties.PatientCache properties = submissionProperties.getPatientCache();
+        this.submissionRepository = submissionRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = Duration.ofSeconds(properties.getRedisTtlSeconds());
+        if (properties.getKeySecret() == null || properties.getKeySecret().isBlank()) {
+            throw new IllegalStateException("submission.patient-cache.key-secret não configurado");
+        }
+        this.keySecret = new SecretKeySpec(properties.getKeySecret().getBytes(StandardCharsets.UTF_8), KEY_ALGORITHM);
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+                .build();
+
+        this.localHits = lookupCounter(meterRegistry, "local");
+        this.redisHits = lookupCounter(meterRegistry, "redis");
+        this.databaseHits = lookupCounter(meterRegistry, "database");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * Busca o paciente já resolvido para o CPF na clínica.
+     *
+     * @return ID do paciente no Feegow, ou vazio se for preciso consultar o Feegow
+     */
+    public Optional<Long> find(UUID clinicId, String cpf) {
+        String key = key(clinicId, cpf);
+
+        Long local = nearCache.getIfPresent(key);
+        if (local != null) {
+            localHits.increment();
+            return Optional.of(local);
+        }
+
+        Long shared = readRedis(key);
+        if (shared != null) {
+            redisHits.increment();
+            nearCache.put(key, shared);
+            return Optional.of(shared);
+        }
+
+        Optional<Long> stored = submissionRepository.findLatestFeegowPatientId(clinicId, cpf)
+                .map(Long::valueOf);
+        if (stored.isPresent()) {
+            databaseHits.increment();
+            store(key, stored.get());
+            return stored;
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Registra o paciente resolvido no Feegow (chamado após resolvePatient com sucesso).
+     */
+    public void put(UUID clinicId, String cpf, Long patientId) {
+        store(key(clinicId, cpf), patientId);
+    }
+
+    private void store(String key, Long patientId) {
+        nearCache.put(key, patientId);
+        try {
+            redisTemplate.opsForValue().set(REDIS_PREFIX + key, String.valueOf(patientId), redisTtl);
+        } catch (Exception ex) {
+            log.debug("Falha ao gravar paciente no Redis (ignorado): {}", ex.getMessage());
+        }
+    }
+
+    private Long readRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(REDIS_PREFIX + key);
+            return value != null ? Long.valueOf(value) : null;
+        } catch (Exception ex) {
+            log.debug("Falha ao consultar paciente no Redis (tratado como miss): {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Chave do paciente: clínica + HMAC do CPF (também usada na coalescência e no lock do resolver).
+     */
+    String key(UUID clinicId, String cpf) {
+        try {
+            // Mac não é thread-safe: uma instância por chamada
+            Mac mac = Mac.getInstance(KEY_ALGORITHM);
+            mac.init(keySecret);
+            byte[] hash = mac.doFinal(normalizeCpf(cpf).getBytes(StandardCharsets.UTF_8));
+            return clinicId + ":" + HexFormat.of().formatHex(hash);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(KEY_ALGORITHM + " indisponível", ex);
+        }
+    }
+
+    /**
+     * "123.456.789-09" e "12345678909" são o mesmo paciente: a chave usa só os dígitos.
+     */
+    private static String normalizeCpf(String cpf) {
+        return cpf.replaceAll("\\D", "");
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("feegow.patient.cache")
+                .description("Consultas ao cache CPF → paciente Feegow por camada")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
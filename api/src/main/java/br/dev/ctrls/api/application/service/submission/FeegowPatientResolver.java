@@ -0,0 +1,180 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolve o paciente Feegow de uma submissão com uma única chamada remota por (clínica, CPF).
+ *
+ * Pacientes que enviam duas vezes, ou familiares no mesmo aparelho, geram várias
+ * submissões com o mesmo CPF em segundos. Sem coordenação, cada uma faz listPatients
+ * e possivelmente createPatient, duplicando o paciente no Feegow.
+ *
+ * FLUXO:
+ * 1. Cache (FeegowPatientCache): paciente recorrente não chama o Feegow
+ * 2. Single-flight local: chamadas simultâneas no mesmo nó aguardam o mesmo Future
+ * 3. Lock curto no Redis (SET NX PX): só um nó resolve; os demais aguardam o
+ *    resultado aparecer no cache. Se não aparecer a tempo, a submissão é reagendada.
+ *
+ * Métrica: feegow.patient.coalesced (tag scope = local, remote).
+ */
+@Slf4j
+@Component
+public class FeegowPatientResolver {
+
+    private static final String LOCK_PREFIX = "feegow:patient-lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final FeegowIntegrationService feegowService;
+    private final FeegowPatientCache patientCache;
+    private final StringRedisTemplate redisTemplate;
+    private final SubmissionProperties.PatientCache properties;
+    private final Map<String, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter coalescedLocal;
+    private final Counter coalescedRemote;
+
+    public FeegowPatientResolver(FeegowIntegrationService feegowService,
+                                 FeegowPatientCache patientCache,
+                                 StringRedisTemplate redisTemplate,
+                                 SubmissionProperties submissionProperties,
+                                 MeterRegistry meterRegistry) {
+        this.feegowService = feegowService;
+        this.patientCache = patientCache;
+        this.redisTemplate = redisTemplate;
+        this.properties = submissionProperties.getPatientCache();
+
+        this.coalescedLocal = Counter.builder("feegow.patient.coalesced")
+                .description("Resoluções de paciente atendidas por uma chamada já em andamento")
+                .tag("scope", "local")
+                .register(meterRegistry);
+        this.coalescedRemote = Counter.builder("feegow.patient.coalesced")
+                .description("Resoluções de paciente atendidas por uma chamada já em andamento")
+                .tag("scope", "remote")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retorna o ID do paciente no Feegow, buscando ou criando no máximo uma vez por (clínica, CPF).
+     */
+    public Long resolve(UUID clinicId, String token, String cpf, String name) {
+        Optional<Long> cached = patientCache.find(clinicId, cpf);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String key = patientCache.key(clinicId, cpf);
+        CompletableFuture<Long> flight = new CompletableFuture<>();
+        CompletableFuture<Long> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            coalescedLocal.increment();
+            return await(existing);
+        }
+
+        try {
+            Long patientId = resolveWithLock(key, clinicId, token, cpf, name);
+            flight.complete(patientId);
+            return patientId;
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Long resolveWithLock(String key, UUID clinicId, String token, String cpf, String name) {
+        String lockKey = LOCK_PREFIX + key;
+        String lockToken = UUID.randomUUID().toString();
+
+        if (!tryLock(lockKey, lockToken)) {
+            coalescedRemote.increment();
+            return awaitOtherNode(clinicId, cpf);
+        }
+
+        try {
+            // Outro nó pode ter resolvido entre o miss e o lock
+            Optional<Long> cached = patientCache.find(clinicId, cpf);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+
+            Long patientId = feegowService.resolvePatient(clinicId, token, cpf, name);
+            patientCache.put(clinicId, cpf, patientId);
+            return patientId;
+        } finally {
+            unlock(lockKey, lockToken);
+        }
+    }
+
+    /**
+     * Aguarda o nó que detém o lock publicar o paciente no cache.
+     * Sem resultado dentro do prazo, a submissão é reagendada (retry não bloqueante).
+     */
+    private Long awaitOtherNode(UUID clinicId, String cpf) {
+        long deadline = System.nanoTime() + Duration.ofMillis(properties.getLockWaitMs()).toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(properties.getLockPollMs());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            Optional<Long> cached = patientCache.find(clinicId, cpf);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+        throw new FeegowTransientException("resolve",
+                "Paciente em resolução por outra réplica; nova tentativa agendada", null);
+    }
+
+    private boolean tryLock(String lockKey, String lockToken) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, lockToken, Duration.ofMillis(properties.getLockTtlMs()));
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception ex) {
+            // Sem Redis ainda há coalescência local; o risco de duplicidade fica restrito a outros nós
+            log.debug("Falha ao adquirir lock de paciente no Redis (seguindo sem lock): {}", ex.getMessage());
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String lockToken) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), lockToken);
+        } catch (Exception ex) {
+            log.debug("Falha ao liberar lock de paciente no Redis (expira sozinho): {}", ex.getMessage());
+        }
+    }
+
+    private static Long await(CompletableFuture<Long> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.infrastructure.config.props.IntegrationProperties;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.EstimationProbe;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cota de saída para o Feegow por token, compartilhada por todas as réplicas.
+ *
+ * O Feegow limita requisições por conta. Com várias réplicas chamando em paralelo,
+ * limites locais somados estouram a cota e geram rajadas de 429 seguidas de retries.
+ * Aqui cada token tem um token bucket no Redis (bucket4j, compare-and-swap): toda
+ * réplica consome do mesmo bucket antes de chamar o Feegow.
+ *
+ * Sem token disponível dentro de max-wait-ms, a chamada é recusada com
+ * {@link FeegowUnavailableException} e a submissão volta para a fila (PARKED) para
+ * quando o bucket tiver reposto, sem consumir retries. Falha do Redis libera a
+ * chamada: a cota nunca impede o processamento.
+ *
+ * Métricas (tag clinic):
+ * - feegow.quota.available / feegow.quota.utilization: tokens livres e fração consumida do bucket,
+ *   segundo a última consulta feita por uma chamada (o scrape não vai ao Redis)
+ * - feegow.quota.wait: tempo aguardando token
+ * - feegow.quota.rejected: chamadas devolvidas à fila por falta de token
+ */
+@Slf4j
+@Component
+public class FeegowQuotaLimiter {
+
+    private static final String KEY_PREFIX = "feegow:quota:";
+
+    private final ProxyManager<byte[]> proxyManager;
+    private final IntegrationProperties.Quota properties;
+    private final MeterRegistry meterRegistry;
+    private final BucketConfiguration configuration;
+    private final Map<UUID, ClinicQuota> quotas = new ConcurrentHashMap<>();
+
+    public FeegowQuotaLimiter(ProxyManager<byte[]> proxyManager,
+                              IntegrationProperties integrationProperties,
+                              MeterRegistry meterRegistry) {
+        this.proxyManager = proxyManager;
+        this.properties = integrationProperties.getFeegow().getQuota();
+        this.meterRegistry = meterRegistry;
+        this.configuration = BucketConfiguration.builder()
+                .addLimit(limit -> limit
+                        .capacity(properties.getBurst())
+                        .refillGreedy(properties.getRequestsPerSecond(), Duration.ofSeconds(1)))
+                .build();
+    }
+
+    /**
+     * Consome um token da cota do token Feegow, aguardando até max-wait-ms.
+     *
+     * @throws FeegowUnavailableException se a cota continuar esgotada após a espera
+     */
+    public void acquire(UUID clinicId, String token, String operation) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ClinicQuota quota = quotas.computeIfAbsent(clinicId, this::newClinicQuota);
+        BucketProxy bucket = quota.bucketFor(token);
+
+        Duration retryAfter;
+        long start = System.nanoTime();
+        try {
+            // Caminho comum: token disponível, uma ida ao Redis que já informa o saldo
+            ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+            if (probe.isConsumed()) {
+                quota.available = probe.getRemainingTokens();
+                return;
+            }
+            // Sem token: espera com reserva (ordem de chegada entre réplicas) até max-wait-ms
+            if (bucket.asBlocking().tryConsume(1, Duration.ofMillis(properties.getMaxWaitMs()))) {
+                quota.available = 0;
+                return;
+            }
+            EstimationProbe estimate = bucket.estimateAbilityToConsume(1);
+            // Com reservas pendentes o saldo fica negativo: para a métrica, bucket vazio
+            quota.available = Math.max(0, estimate.getRemainingTokens());
+            retryAfter = Duration.ofNanos(estimate.getNanosToWaitForRefill());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new FeegowTransientException(operation, "Interrompido aguardando cota do Feegow", ex);
+        } catch (RuntimeException ex) {
+            log.debug("Falha ao consultar cota do Feegow no Redis (seguindo sem cota): {}", ex.getMessage());
+            return;
+        } finally {
+            quota.waitTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        quota.rejected.increment();
+        log.warn("Cota do Feegow esgotada para clínica {} - {} devolvido à fila", clinicId, operation);
+        throw new FeegowUnavailableException(operation, "Cota de requisições do Feegow esgotada", retryAfter, null);
+    }
+
+    private ClinicQuota newClinicQuota(UUID clinicId) {
+        ClinicQuota quota = new ClinicQuota();
+
+        String clinic = clinicId.toString();
+        Gauge.builder("feegow.quota.available", quota, q -> q.available)
+                .description("Tokens livres na cota compartilhada do Feegow")
+                .tag("clinic", clinic)
+                .register(meterRegistry);
+        Gauge.builder("feegow.quota.utilization", quota,
+                        q -> 1.0 - q.available / properties.getBurst())
+                .description("Fração consumida da cota compartilhada do Feegow (0 a 1)")
+                .tag("clinic", clinic)
+                .register(meterRegistry);
+        quota.waitTimer = Timer.builder("feegow.quota.wait")
+                .description("Tempo aguardando token da cota do Feegow")
+                .tag("clinic", clinic)
+                .register(meterRegistry);
+        quota.rejected = Counter.builder("feegow.quota.rejected")
+                .description("Chamadas ao Feegow devolvidas à fila por cota esgotada")
+                .tag("clinic", clinic)
+                .register(meterRegistry);
+
+        return quota;
+    }
+
+    /**
+     * O token é uma credencial: a chave no Redis usa o SHA-256 dele.
+     * Clínicas que compartilham a mesma conta Feegow dividem o mesmo bucket.
+     */
+    static byte[] key(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(String.valueOf(token).getBytes(StandardCharsets.UTF_8));
+            return (KEY_PREFIX + HexFormat.of().formatHex(hash)).getBytes(StandardCharsets.UTF_8);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 indisponível", ex);
+        }
+    }
+
+    /**
+     * Métricas da clínica e o bucket do token atual (o token pode ser trocado no cadastro).
+     */
+    private final class ClinicQuota {
+        private volatile String token;
+        private volatile BucketProxy bucket;
+        /** Saldo da última consulta ao bucket; NaN até a primeira chamada. */
+        private volatile double available = Double.NaN;
+        private Timer waitTimer;
+        private Counter rejected;
+
+        BucketProxy bucketFor(String currentToken) {
+            BucketProxy current = bucket;
+            if (current == null || !Objects.equals(token, currentToken)) {
+                // Proxy local: o estado do bucket fica no Redis, criado sob demanda
+                current = proxyManager.builder().build(key(currentToken), () -> configuration);
+                token = currentToken;
+                bucket = current;
+            }
+            return current;
+        }
+    }
+}
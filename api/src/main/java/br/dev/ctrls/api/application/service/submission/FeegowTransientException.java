@@ -0,0 +1,22 @@
+package br.dev.ctrls.api.application.service.submission;
+
+/**
+ * Falha temporária na integração com Feegow (timeout, 429, 5xx).
+ *
+ * Não é repetida na thread do worker: o pipeline agenda uma nova tentativa
+ * via {@link SubmissionRetryScheduler} e libera a thread durante o backoff.
+ */
+public class FeegowTransientException extends FeegowIntegrationException {
+
+    /** Etapa que falhou (resolve/upload), usada em logs e métricas. */
+    private final String operation;
+
+    public FeegowTransientException(String operation, String message, Throwable cause) {
+        super(message, cause);
+        this.operation = operation;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+}
@@ -0,0 +1,25 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import java.time.Duration;
+
+/**
+ * Feegow da clínica recusado localmente: circuit breaker aberto, bulkhead cheio
+ * ou cota compartilhada do token esgotada.
+ *
+ * A chamada nem chegou ao Feegow. A submissão é estacionada (PARKED) até o
+ * circuito poder fechar ou a cota repor, sem consumir as tentativas do retry.
+ */
+public class FeegowUnavailableException extends FeegowTransientException {
+
+    /** Tempo mínimo até valer a pena tentar de novo. */
+    private final Duration retryAfter;
+
+    public FeegowUnavailableException(String operation, String message, Duration retryAfter, Throwable cause) {
+        super(operation, message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,32 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.Submission;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Estado de uma submissão trafegando entre os estágios do pipeline.
+ *
+ * Cada estágio preenche o que produz (patientId, pdf) e entrega ao próximo.
+ * Só é acessado por um estágio por vez (hand-off via fila).
+ */
+@Getter
+@Setter
+public class SubmissionContext {
+
+    private final UUID submissionId;
+    private final Submission submission;
+    private final UUID clinicId;
+    private final String feegowToken;
+
+    private Long patientId;
+    private byte[] pdf;
+
+    public SubmissionContext(Submission submission) {
+        this.submissionId = submission.getId();
+        this.submission = submission;
+        this.clinicId = submission.getTemplate().getClinic().getId();
+        this.feegowToken = submission.getTemplate().getClinic().getFeegowApiToken();
+    }
+}
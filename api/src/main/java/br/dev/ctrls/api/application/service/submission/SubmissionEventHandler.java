@@ -1,133 +1,274 @@
 package br.dev.ctrls.api.application.service.submission;
 
-import br.dev.ctrls.api.application.event.SubmissionCreatedEvent;
 import br.dev.ctrls.api.application.service.document.PdfGenerationException;
 import br.dev.ctrls.api.application.service.document.PdfService;
+import br.dev.ctrls.api.application.service.document.PdfStore;
 import br.dev.ctrls.api.client.feegow.dto.UploadFileRequest;
 import br.dev.ctrls.api.domain.submission.Submission;
 import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionOutboxRepository;
 import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
-import java.util.Base64;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
- * Handler assíncrono para processar submissões após serem criadas.
+ * Etapas do processamento assíncrono de uma submissão.
  * Executa a integração com Feegow e geração de PDF em background.
+ *
+ * Cada método corresponde a um estágio do SubmissionPipeline:
+ * load/resolvePatient → renderPdf → upload → complete (ou fail).
+ *
+ * TRANSAÇÕES: nenhuma conexão do pool fica presa durante o trabalho remoto.
+ * 1. load(): transação curta - claim do lease + snapshot da submissão (entidade destacada)
+ * 2. Feegow/PDF: sem transação e sem conexão
+ * 3. complete()/fail(): transação curta - UPDATE condicional ao lease + ack do outbox
+ * A vazão passa a ser limitada pela latência do Feegow, não pelo tamanho do pool Hikari.
+ *
+ * Reentregas de submissões já finalizadas ou sob lease de outra réplica são ignoradas.
+ * Falhas temporárias no Feegow não confirmam o outbox: a próxima tentativa é
+ * agendada pelo SubmissionRetryScheduler e retoma do paciente já resolvido.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SubmissionEventHandler {
 
     private final SubmissionRepository submissionRepository;
+    private final SubmissionOutboxRepository outboxRepository;
     private final FeegowIntegrationService feegowService;
     private final PdfService pdfService;
+    private final PdfStore pdfStore;
+    private final SubmissionLeaseService leaseService;
+    private final SubmissionRetryScheduler retryScheduler;
+    private final FeegowPatientResolver patientResolver;
+    private final TransactionTemplate transactionTemplate;
+
+    public SubmissionEventHandler(SubmissionRepository submissionRepository,
+                                  SubmissionOutboxRepository outboxRepository,
+                                  FeegowIntegrationService feegowService,
+                                  PdfService pdfService,
+                                  PdfStore pdfStore,
+                                  SubmissionLeaseService leaseService,
+                                  SubmissionRetryScheduler retryScheduler,
+                                  FeegowPatientResolver patientResolver,
+                                  PlatformTransactionManager transactionManager) {
+        this.submissionRepository = submissionRepository;
+        this.outboxRepository = outboxRepository;
+        this.feegowService = feegowService;
+        this.pdfService = pdfService;
+        this.pdfStore = pdfStore;
+        this.leaseService = leaseService;
+        this.retryScheduler = retryScheduler;
+        this.patientResolver = patientResolver;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
-     * Processa submissão de forma assíncrona após evento de criação.
-     * Usa thread pool dedicado configurado em AsyncConfig.
+     * Reivindica o lease e carrega o snapshot da submissão em uma única transação curta.
+     *
+     * IMPORTANTE: Usa findByIdWithGraph() para carregar relacionamentos eagerly
+     * e evitar LazyInitializationException ao acessar submission.getTemplate().getClinic()
+     * depois que a transação termina.
+     *
+     * @return contexto do pipeline, ou vazio se a submissão já foi finalizada (reentrega)
+     *         ou está sob lease de outra réplica
      */
-    @Async("submissionTaskExecutor")
-    @EventListener
-    public void handleSubmissionCreated(SubmissionCreatedEvent event) {
-        log.info("Processando submissão assíncrona: {}", event.getSubmissionId());
+    public Optional<SubmissionContext> load(UUID submissionId) {
+        log.info("Processando submissão assíncrona: {}", submissionId);
 
-        try {
-            processSubmissionIntegration(event.getSubmissionId());
-        } catch (Exception ex) {
-            log.error("Erro fatal no processamento da submissão: {}", event.getSubmissionId(), ex);
-            markAsError(event.getSubmissionId(), ex.getMessage());
+        Optional<Submission> snapshot = transactionTemplate.execute(status -> {
+            // Entrega at-least-once: só quem vence o claim processa (outbox, spill e sweeper podem duplicar)
+            if (!leaseService.claim(submissionId)) {
+                return Optional.<Submission>empty();
+            }
+            Submission submission = submissionRepository.findByIdWithGraph(submissionId)
+                    .orElseThrow(() -> new IllegalStateException("Submissão não encontrada: " + submissionId));
+            return Optional.of(submission);
+        });
+
+        if (snapshot == null || snapshot.isEmpty()) {
+            ignoreRedelivery(submissionId);
+            return Optional.empty();
+        }
+        return Optional.of(new SubmissionContext(snapshot.get()));
+    }
+
+    private void ignoreRedelivery(UUID submissionId) {
+        SubmissionStatus status = submissionRepository.findStatusById(submissionId)
+                .orElseThrow(() -> new IllegalStateException("Submissão não encontrada: " + submissionId));
+
+        if (status == SubmissionStatus.PROCESSED || status == SubmissionStatus.ERROR) {
+            log.info("Submissão {} já está {} - ignorando reentrega", submissionId, status);
+            outboxRepository.deleteBySubmissionId(submissionId);
+        } else {
+            log.info("Submissão {} sob lease de outra execução - ignorando", submissionId);
         }
     }
 
     /**
-     * Processa integração com Feegow em uma nova transação.
-     *
-     * PROPAGATION.REQUIRES_NEW garante que mesmo que a transação pai falhe,
-     * esta transação pode ser commitada independentemente.
+     * Estágio 1 - Resolver/Criar Paciente no Feegow (I/O, sem conexão do banco).
+     */
+    public void resolvePatient(SubmissionContext context) {
+        Submission submission = context.getSubmission();
+
+        // Retry após falha no upload: o paciente já foi resolvido na tentativa anterior
+        if (submission.getFeegowPatientId() != null) {
+            context.setPatientId(Long.valueOf(submission.getFeegowPatientId()));
+            return;
+        }
+
+        // Cache + coalescência por (clínica, CPF): no máximo uma chamada remota por paciente
+        log.debug("Resolvendo paciente no Feegow para submissão: {}", context.getSubmissionId());
+        Long patientId = patientResolver.resolve(
+            context.getClinicId(),
+            context.getFeegowToken(),
+            submission.getPatientCpf(),
+            submission.getPatientName()
+        );
+
+        context.setPatientId(patientId);
+        submission.setFeegowPatientId(String.valueOf(patientId));
+
+        // Persiste já: um retry do upload não precisa resolver o paciente de novo
+        if (submissionRepository.recordPatient(context.getSubmissionId(), leaseService.getOwner(),
+                submission.getFeegowPatientId(), Instant.now()) == 0) {
+            throw new SubmissionLeaseLostException(context.getSubmissionId());
+        }
+    }
+
+    /**
+     * Estágio 2 - Gerar PDF (CPU).
      *
-     * IMPORTANTE: Usa findByIdWithGraph() para carregar relacionamentos eagerly
-     * e evitar LazyInitializationException ao acessar submission.getTemplate().getClinic()
-     * em contexto assíncrono.
+     * Retry após falha no upload: o PDF da tentativa anterior é lido do PdfStore
+     * em vez de renderizado de novo.
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    void processSubmissionIntegration(UUID submissionId) {
-        // ✅ FIX: Usa findByIdWithGraph para carregar template + clinic eagerly
-        Submission submission = submissionRepository.findByIdWithGraph(submissionId)
-                .orElseThrow(() -> new IllegalStateException("Submissão não encontrada: " + submissionId));
+    public void renderPdf(SubmissionContext context) {
+        Submission submission = context.getSubmission();
 
-        try {
-            // ✅ Agora submission.getTemplate().getClinic() está carregado (sem LazyInitializationException)
-            String token = submission.getTemplate().getClinic().getFeegowApiToken();
+        Optional<byte[]> stored = pdfStore.read(submission.getPdfSha256());
+        if (stored.isPresent()) {
+            log.debug("Reutilizando PDF armazenado da submissão: {}", context.getSubmissionId());
+            context.setPdf(stored.get());
+            return;
+        }
 
-            // 1. Resolver/Criar Paciente no Feegow
-            log.debug("Resolvendo paciente no Feegow para submissão: {}", submissionId);
-            Long patientId = feegowService.resolvePatient(
-                token,
-                submission.getPatientCpf(),
-                submission.getPatientName()
-            );
+        log.debug("Gerando PDF para submissão: {}", context.getSubmissionId());
+        byte[] pdf = pdfService.generateAnamnesisPdf(submission, submission.getTemplate());
+        context.setPdf(pdf);
+        storePdf(submission, pdf);
+    }
 
-            submission.setFeegowPatientId(String.valueOf(patientId));
-            submissionRepository.save(submission);
+    /**
+     * Guarda o PDF para retries e downloads. Falha aqui não interrompe o pipeline:
+     * no pior caso o PDF é renderizado de novo depois.
+     */
+    private void storePdf(Submission submission, byte[] pdf) {
+        try {
+            String sha256 = pdfStore.store(pdf);
+            submissionRepository.recordPdf(submission.getId(), sha256);
+            submission.setPdfSha256(sha256);
+        } catch (RuntimeException ex) {
+            log.warn("PDF da submissão {} não foi armazenado: {}", submission.getId(), ex.getMessage());
+        }
+    }
 
-            // 2. Gerar PDF
-            log.debug("Gerando PDF para submissão: {}", submissionId);
-            byte[] pdfBytes = pdfService.generateAnamnesisPdf(submission, submission.getTemplate());
+    /**
+     * Estágio 3 - Upload do PDF para o Feegow (I/O, sem conexão do banco).
+     */
+    public void upload(SubmissionContext context) {
+        log.debug("Fazendo upload de PDF para Feegow");
+        String filename = "anamnese-" + Instant.now().toEpochMilli() + ".pdf";
+        // Bytes crus: o base64 é gerado pelo FeegowUploadEncoder direto no corpo da requisição
+        UploadFileRequest uploadRequest = new UploadFileRequest(context.getPatientId(), context.getPdf(), filename);
 
-            // 3. Upload para Feegow
-            log.debug("Fazendo upload de PDF para Feegow");
-            String base64 = Base64.getEncoder().encodeToString(pdfBytes);
-            String filename = "anamnese-" + Instant.now().toEpochMilli() + ".pdf";
-            UploadFileRequest uploadRequest = new UploadFileRequest(patientId, base64, filename);
+        feegowService.uploadFile(context.getClinicId(), context.getFeegowToken(), uploadRequest);
 
-            feegowService.uploadFile(token, uploadRequest);
+        // PDF já enviado: libera o buffer antes do commit
+        context.setPdf(null);
+    }
 
-            // 4. Marcar como processado
-            submission.setStatus(SubmissionStatus.PROCESSED);
-            submissionRepository.save(submission);
+    /**
+     * Estágio 4 - Marcar como processado e confirmar o outbox.
+     */
+    public void complete(SubmissionContext context) {
+        if (!finish(context.getSubmissionId(), SubmissionStatus.PROCESSED, null, false)) {
+            throw new SubmissionLeaseLostException(context.getSubmissionId());
+        }
+        log.info("Submissão processada com sucesso: {}", context.getSubmissionId());
+    }
 
-            log.info("Submissão processada com sucesso: {}", submissionId);
+    /**
+     * Trata falha em qualquer estágio.
+     * Circuito do Feegow aberto: estaciona a submissão (PARKED) sem consumir retries.
+     * Falha temporária no Feegow: agenda retry (outbox continua pendente).
+     * Lease perdido: outra execução assumiu a submissão, nada a fazer.
+     * Demais falhas, ou retries esgotados: marca ERROR e confirma o outbox.
+     * Só ERROR temporário (retries esgotados, banco indisponível) volta a ser recolhido
+     * pelo sweeper; erros definitivos (Feegow 4xx, PDF, dados inválidos) não são reenviados.
+     */
+    public void fail(UUID submissionId, Exception ex) {
+        if (ex instanceof SubmissionLeaseLostException) {
+            log.warn("{} - resultado descartado", ex.getMessage());
+            return;
+        }
 
-        } catch (FeegowIntegrationException ex) {
-            log.error("Erro de integração com Feegow na submissão {}: {}", submissionId, ex.getMessage());
-            submission.setStatus(SubmissionStatus.ERROR);
-            submissionRepository.save(submission);
+        if (ex instanceof FeegowUnavailableException unavailableEx) {
+            retryScheduler.park(submissionId, unavailableEx);
+            return;
+        }
 
-        } catch (PdfGenerationException ex) {
+        if (ex instanceof FeegowTransientException transientEx) {
+            if (retryScheduler.schedule(submissionId, transientEx)) {
+                return;
+            }
+            log.error("Retries esgotados para a submissão {}: {}", submissionId, ex.getMessage());
+        } else if (ex instanceof FeegowIntegrationException) {
+            log.error("Erro de integração com Feegow na submissão {}: {}", submissionId, ex.getMessage());
+        } else if (ex instanceof PdfGenerationException) {
             log.error("Erro ao gerar PDF na submissão {}: {}", submissionId, ex.getMessage());
-            submission.setStatus(SubmissionStatus.ERROR);
-            submissionRepository.save(submission);
-
-        } catch (Exception ex) {
+        } else {
             log.error("Erro inesperado ao processar submissão {}", submissionId, ex);
-            submission.setStatus(SubmissionStatus.ERROR);
-            submissionRepository.save(submission);
-            throw ex; // Re-throw para ser capturado pelo handler principal
         }
+
+        boolean retryable = ex instanceof FeegowTransientException || ex instanceof TransientDataAccessException;
+        markAsError(submissionId, ex.getMessage(), retryable);
     }
 
     /**
-     * Marca submissão como erro em uma transação separada.
-     * Usado quando há erro fatal antes mesmo de iniciar o processamento.
+     * Marca submissão como erro com UPDATE condicional ao lease.
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    void markAsError(UUID submissionId, String errorMessage) {
-        // Usa findByIdWithGraph para consistência (mesmo que não precise acessar relacionamentos lazy aqui)
-        submissionRepository.findByIdWithGraph(submissionId).ifPresent(submission -> {
-            submission.setStatus(SubmissionStatus.ERROR);
-            submissionRepository.save(submission);
+    void markAsError(UUID submissionId, String errorMessage, boolean retryable) {
+        String lastError = errorMessage != null && errorMessage.length() > 500
+                ? errorMessage.substring(0, 500) : errorMessage;
+
+        if (finish(submissionId, SubmissionStatus.ERROR, lastError, retryable)) {
             log.error("Submissão marcada como ERROR: {} - Motivo: {}", submissionId, errorMessage);
+        } else {
+            log.warn("Submissão {} não está mais sob lease desta réplica - ERROR não aplicado", submissionId);
+        }
+    }
+
+    /**
+     * Transação curta: status final condicional ao lease + ack do outbox.
+     * O outbox só é confirmado se o UPDATE venceu; senão a outra execução confirma.
+     */
+    private boolean finish(UUID submissionId, SubmissionStatus status, String lastError, boolean retryable) {
+        Boolean finished = transactionTemplate.execute(tx -> {
+            int updated = submissionRepository.finishProcessing(
+                    submissionId, leaseService.getOwner(), status.name(), lastError, retryable, Instant.now());
+            if (updated == 0) {
+                return false;
+            }
+            // Ack do outbox: a submissão chegou a um estado final
+            outboxRepository.deleteBySubmissionId(submissionId);
+            return true;
         });
+        return Boolean.TRUE.equals(finished);
     }
 }
-
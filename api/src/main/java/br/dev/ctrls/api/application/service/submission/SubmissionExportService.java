@@ -0,0 +1,209 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.application.service.document.StoredPdf;
+import br.dev.ctrls.api.domain.submission.Submission;
+import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Exportação em lote dos PDFs de um período em um ZIP gravado direto na resposta.
+ *
+ * PIPELINE:
+ * 1. Consulta por keyset (submission.export.batch-size por vez), na ordem created_at, id
+ * 2. Cada submissão vira uma tarefa no pool fixo da exportação: PDF armazenado
+ *    (PdfStore) ou renderizado e armazenado na hora
+ * 3. As entradas são escritas no ZIP na ordem da consulta, copiando o arquivo para o stream
+ *
+ * Memória constante: no máximo 2 x parallelism tarefas em voo (janela deslizante),
+ * e cada resultado é só uma referência ao arquivo - nenhum PDF fica acumulado no heap.
+ * Falhas individuais não abortam a exportação: vão para ERROS.txt no fim do ZIP,
+ * uma linha por submissão (ID, nome da entrada e motivo).
+ */
+@Slf4j
+@Service
+public class SubmissionExportService {
+
+    private static final DateTimeFormatter ENTRY_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd_HHmm")
+            .withZone(ZoneOffset.UTC);
+    private static final Pattern UNSAFE_NAME = Pattern.compile("[^\\p{L}\\p{N} ._-]+");
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionPdfService submissionPdfService;
+    private final ExecutorService pool;
+    private final int window;
+    private final int batchSize;
+
+    public SubmissionExportService(SubmissionRepository submissionRepository,
+                                   SubmissionPdfService submissionPdfService,
+                                   SubmissionProperties submissionProperties) {
+        SubmissionProperties.Export config = submissionProperties.getExport();
+        int parallelism = config.getParallelism() > 0
+                ? config.getParallelism() : Runtime.getRuntime().availableProcessors();
+
+        this.submissionRepository = submissionRepository;
+        this.submissionPdfService = submissionPdfService;
+        // FutureTask (e não CompletableFuture/ForkJoinTask): cancel(true) interrompe a tarefa
+        // e get() devolve a exceção original
+        this.pool = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("submission-export-", 0).factory());
+        this.window = parallelism * 2;
+        this.batchSize = config.getBatchSize();
+    }
+
+    /**
+     * Grava no stream o ZIP com os PDFs da clínica criados em [from, to).
+     *
+     * @return quantidade de PDFs exportados
+     */
+    public int exportZip(UUID clinicId, Instant from, Instant to, SubmissionStatus status, OutputStream out)
+            throws IOException {
+        log.info("Exportando PDFs da clínica {} de {} a {} (status {})", clinicId, from, to, status);
+
+        ZipArchiveOutputStream zip = new ZipArchiveOutputStream(out);
+        zip.setEncoding(StandardCharsets.UTF_8.name());
+        // PDFs já são comprimidos internamente: compressão rápida basta
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        Deque<Pending> inFlight = new ArrayDeque<>();
+        List<String> failures = new ArrayList<>();
+        int exported = 0;
+
+        try {
+            Instant afterCreatedAt = from.minusNanos(1);
+            UUID afterId = FIRST_ID;
+            List<Submission> batch;
+            do {
+                batch = submissionRepository.findExportBatch(clinicId, from, to, status,
+                        afterCreatedAt, afterId, PageRequest.of(0, batchSize));
+
+                for (Submission submission : batch) {
+                    if (inFlight.size() >= window) {
+                        exported += writeNext(zip, inFlight, failures);
+                    }
+                    String name = entryName(submission);
+                    inFlight.add(new Pending(submission.getId(), name,
+                            pool.submit(() -> prepare(submission, name))));
+                }
+
+                if (!batch.isEmpty()) {
+                    Submission last = batch.get(batch.size() - 1);
+                    afterCreatedAt = last.getCreatedAt();
+                    afterId = last.getId();
+                }
+            } while (batch.size() == batchSize);
+
+            while (!inFlight.isEmpty()) {
+                exported += writeNext(zip, inFlight, failures);
+            }
+
+            if (!failures.isEmpty()) {
+                writeFailures(zip, failures);
+            }
+            zip.finish();
+            zip.flush();
+        } finally {
+            // Cliente desconectou ou erro na escrita: interrompe o que ainda estava em voo
+            inFlight.forEach(pending -> pending.task().cancel(true));
+        }
+
+        log.info("Exportação da clínica {} concluída: {} PDF(s), {} falha(s)", clinicId, exported, failures.size());
+        return exported;
+    }
+
+    private ExportEntry prepare(Submission submission, String name) {
+        return new ExportEntry(name, submission.getCreatedAt(), submissionPdfService.pdfFor(submission));
+    }
+
+    /**
+     * Aguarda a tarefa mais antiga e escreve a entrada (mantém a ordem da consulta).
+     *
+     * @return 1 se a entrada foi escrita, 0 se a submissão falhou
+     */
+    private int writeNext(ZipArchiveOutputStream zip,
+                          Deque<Pending> inFlight,
+                          List<String> failures) throws IOException {
+        Pending pending = inFlight.peekFirst();
+        ExportEntry entry;
+        try {
+            entry = pending.task().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Exportação interrompida");
+        } catch (ExecutionException ex) {
+            inFlight.removeFirst();
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            log.warn("Submissão {} ({}) ignorada na exportação", pending.submissionId(), pending.name(), cause);
+            failures.add(pending.submissionId() + " " + pending.name() + ": " + describe(cause));
+            return 0;
+        }
+        inFlight.removeFirst();
+
+        ZipArchiveEntry zipEntry = new ZipArchiveEntry(entry.name());
+        zipEntry.setSize(entry.pdf().size());
+        zipEntry.setTime(entry.createdAt().toEpochMilli());
+        zip.putArchiveEntry(zipEntry);
+        Files.copy(entry.pdf().path(), zip);
+        zip.closeArchiveEntry();
+        return 1;
+    }
+
+    private static void writeFailures(ZipArchiveOutputStream zip, List<String> failures) throws IOException {
+        byte[] content = String.join(System.lineSeparator(), failures).getBytes(StandardCharsets.UTF_8);
+        ZipArchiveEntry entry = new ZipArchiveEntry("ERROS.txt");
+        entry.setSize(content.length);
+        zip.putArchiveEntry(entry);
+        zip.write(content);
+        zip.closeArchiveEntry();
+    }
+
+    private static String describe(Throwable cause) {
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    static String entryName(Submission submission) {
+        String patient = UNSAFE_NAME.matcher(submission.getPatientName()).replaceAll("").trim().replace(' ', '_');
+        return ENTRY_DATE.format(submission.getCreatedAt()) + "_" + patient + "_"
+                + submission.getId().toString().substring(0, 8) + ".pdf";
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private record ExportEntry(String name, Instant createdAt, StoredPdf pdf) {
+    }
+
+    /**
+     * Tarefa em voo com o contexto da submissão, para a linha de ERROS.txt.
+     */
+    private record Pending(UUID submissionId, String name, Future<ExportEntry> task) {
+    }
+}
@@ -0,0 +1,328 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import br.dev.ctrls.api.infrastructure.executor.SubmissionExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Escalonador justo por clínica na frente do submissionTaskExecutor.
+ *
+ * ALGORITMO: Deficit Round-Robin (custo unitário por submissão).
+ * - Cada clínica tem sua própria fila; clínicas com itens formam a lista ativa
+ * - Na vez de uma clínica, o déficit recebe o peso (quantum) configurado
+ * - A clínica despacha enquanto tiver déficit, depois vai para o fim da lista
+ *
+ * Assim uma campanha com 2.000 pacientes de uma clínica não atrasa as demais:
+ * cada clínica ativa recebe uma fatia proporcional ao seu peso.
+ *
+ * LIMITES por clínica (submission.fairness.clinics.&lt;clinicId&gt;.*):
+ * - max-queued: itens aguardando; acima disso a submissão vai para o spill
+ * - max-in-flight: estágios de entrada executando ao mesmo tempo (0 = sem teto)
+ *
+ * O despacho para o executor só acontece quando a fila interna dele está quase
+ * vazia (executor-prefetch), para que a ordem justa não se perca num FIFO.
+ * Se mesmo assim o executor rejeitar a tarefa (fila cheia ou encerrando), a vaga
+ * em execução da clínica é devolvida e a submissão vai para o spill.
+ */
+@Slf4j
+@Component
+public class SubmissionFairScheduler implements SmartLifecycle {
+
+    private final SubmissionExecutor executor;
+    private final SubmissionSpillStore spillStore;
+    private final SubmissionProperties.Fairness properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<UUID, ClinicQueue> queues = new HashMap<>();
+    private final Deque<ClinicQueue> active = new ArrayDeque<>();
+    private int totalQueued;
+
+    private volatile Thread dispatcher;
+    private volatile boolean running;
+
+    public SubmissionFairScheduler(@Qualifier("submissionTaskExecutor") SubmissionExecutor executor,
+                                   SubmissionSpillStore spillStore,
+                                   SubmissionProperties submissionProperties,
+                                   MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.spillStore = spillStore;
+        this.properties = submissionProperties.getFairness();
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("submission.fair.queue.total", this, SubmissionFairScheduler::queuedCount)
+                .description("Submissões aguardando no escalonador justo (todas as clínicas)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira a tarefa na fila da clínica.
+     *
+     * @return false se a fila da clínica (ou o total) estiver cheia - o chamador deve transbordar
+     */
+    public boolean enqueue(UUID clinicId, SubmissionTask task) {
+        lock.lock();
+        try {
+            ClinicQueue queue = queues.computeIfAbsent(clinicId, this::newClinicQueue);
+            if (totalQueued >= properties.getMaxQueued() || queue.items.size() >= queue.maxQueued) {
+                queue.rejected.increment();
+                return false;
+            }
+
+            queue.items.addLast(new Entry(task, System.nanoTime()));
+            totalQueued++;
+            if (!queue.inActiveList) {
+                queue.inActiveList = true;
+                active.addLast(queue);
+            }
+            changed.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Vagas livres no escalonador (usado para drenar o spill e pelo sweeper).
+     */
+    public int availableCapacity() {
+        lock.lock();
+        try {
+            return Math.max(0, properties.getMaxQueued() - totalQueued);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queuedCount() {
+        lock.lock();
+        try {
+            return totalQueued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int queuedCount(ClinicQueue queue) {
+        lock.lock();
+        try {
+            return queue.items.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            Entry next = null;
+            lock.lock();
+            try {
+                if (executorHasRoom()) {
+                    next = pollNext();
+                }
+                if (next == null) {
+                    changed.await(properties.getIdleWaitMs(), TimeUnit.MILLISECONDS);
+                    continue;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            dispatch(next);
+        }
+    }
+
+    /**
+     * Escolhe o próximo item segundo Deficit Round-Robin.
+     * Deve ser chamado com o lock adquirido.
+     *
+     * @return próximo item, ou null se nenhuma clínica ativa puder despachar agora
+     */
+    Entry pollNext() {
+        int skipped = 0;
+        while (!active.isEmpty() && skipped < active.size()) {
+            ClinicQueue queue = active.peekFirst();
+
+            if (queue.items.isEmpty()) {
+                active.pollFirst();
+                queue.inActiveList = false;
+                queue.deficit = 0;
+                continue;
+            }
+
+            if (queue.maxInFlight > 0 && queue.inFlight >= queue.maxInFlight) {
+                // No teto de execução: cede a vez sem perder o déficit acumulado
+                active.addLast(active.pollFirst());
+                skipped++;
+                continue;
+            }
+
+            if (queue.deficit < 1) {
+                // Nova vez da clínica: recebe o quantum
+                queue.deficit += queue.weight;
+            }
+
+            Entry entry = queue.items.pollFirst();
+            entry.owner = queue;
+            queue.deficit--;
+            queue.inFlight++;
+            totalQueued--;
+
+            if (queue.items.isEmpty()) {
+                active.pollFirst();
+                queue.inActiveList = false;
+                queue.deficit = 0;
+            } else if (queue.deficit < 1) {
+                active.addLast(active.pollFirst());
+            }
+            return entry;
+        }
+        return null;
+    }
+
+    void dispatch(Entry entry) {
+        ClinicQueue queue = entry.owner;
+        queue.waitTimer.record(System.nanoTime() - entry.enqueuedAt, TimeUnit.NANOSECONDS);
+
+        // Executa ou rejeita: em qualquer caminho a vaga da clínica é devolvida uma única vez
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaseOnce = () -> {
+            if (released.compareAndSet(false, true)) {
+                release(queue);
+            }
+        };
+
+        SubmissionTask task = entry.task;
+        try {
+            // Rejeição pelo handler do executor: ele transborda e chama releaseOnce
+            executor.execute(new SubmissionTask(task.submissionId(), () -> {
+                try {
+                    task.run();
+                } finally {
+                    releaseOnce.run();
+                }
+            }, releaseOnce));
+        } catch (RejectedExecutionException ex) {
+            log.warn("Executor rejeitou a submissão {}; transbordando: {}", task.submissionId(), ex.getMessage());
+            releaseOnce.run();
+            spillStore.spill(task.submissionId());
+        }
+    }
+
+    private void release(ClinicQueue queue) {
+        lock.lock();
+        try {
+            queue.inFlight--;
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean executorHasRoom() {
+        return executor.availableCapacity() > 0 && executor.queuedCount() < properties.getExecutorPrefetch();
+    }
+
+    private ClinicQueue newClinicQueue(UUID clinicId) {
+        SubmissionProperties.ClinicShare share = properties.getClinics().get(clinicId.toString());
+        int weight = share != null && share.getWeight() > 0 ? share.getWeight() : properties.getDefaultWeight();
+        int maxQueued = share != null && share.getMaxQueued() > 0 ? share.getMaxQueued() : properties.getDefaultMaxQueued();
+        int maxInFlight = share != null && share.getMaxInFlight() > 0 ? share.getMaxInFlight() : properties.getDefaultMaxInFlight();
+
+        ClinicQueue queue = new ClinicQueue(weight, maxQueued, maxInFlight, clinicId.toString());
+        log.debug("Fila justa criada para clínica {}: peso={}, maxQueued={}, maxInFlight={}",
+                clinicId, weight, maxQueued, maxInFlight);
+        return queue;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "submission-fair-scheduler");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = dispatcher;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        if (totalQueued > 0) {
+            log.warn("Escalonador encerrado com {} submissão(ões) na fila; serão reentregues pelo outbox", totalQueued);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    static final class Entry {
+        private final SubmissionTask task;
+        private final long enqueuedAt;
+        private ClinicQueue owner;
+
+        Entry(SubmissionTask task, long enqueuedAt) {
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        SubmissionTask task() {
+            return task;
+        }
+    }
+
+    private final class ClinicQueue {
+        private final Deque<Entry> items = new ArrayDeque<>();
+        private final int weight;
+        private final int maxQueued;
+        private final int maxInFlight;
+        private final Timer waitTimer;
+        private final Counter rejected;
+        private int deficit;
+        private int inFlight;
+        private boolean inActiveList;
+
+        private ClinicQueue(int weight, int maxQueued, int maxInFlight, String clinic) {
+            this.weight = weight;
+            this.maxQueued = maxQueued;
+            this.maxInFlight = maxInFlight;
+            this.waitTimer = Timer.builder("submission.fair.wait")
+                    .description("Tempo de espera no escalonador justo por clínica")
+                    .tag("clinic", clinic)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("submission.fair.rejected")
+                    .description("Submissões transbordadas por fila da clínica cheia")
+                    .tag("clinic", clinic)
+                    .register(meterRegistry);
+            Gauge.builder("submission.fair.queue", this, SubmissionFairScheduler.this::queuedCount)
+                    .description("Submissões aguardando no escalonador justo por clínica")
+                    .tag("clinic", clinic)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import java.util.UUID;
+
+/**
+ * O lease da submissão expirou e outra execução a assumiu durante o processamento.
+ * O resultado desta execução é descartado; o outbox não é confirmado por ela.
+ */
+public class SubmissionLeaseLostException extends RuntimeException {
+
+    public SubmissionLeaseLostException(UUID submissionId) {
+        super("Lease da submissão " + submissionId + " perdido para outra execução");
+    }
+}
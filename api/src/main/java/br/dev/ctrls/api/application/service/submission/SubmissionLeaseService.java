@@ -0,0 +1,47 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Leases de processamento de submissões entre réplicas.
+ *
+ * Cada réplica tem um identificador único (hostname + sufixo aleatório) usado como
+ * lease_owner. Uma submissão só é processada por quem vence o claimLease().
+ */
+@Slf4j
+@Component
+public class SubmissionLeaseService {
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionProperties.Recovery properties;
+    private final String owner;
+
+    public SubmissionLeaseService(SubmissionRepository submissionRepository,
+                                  SubmissionProperties submissionProperties) {
+        this.submissionRepository = submissionRepository;
+        this.properties = submissionProperties.getRecovery();
+        this.owner = System.getenv().getOrDefault("HOSTNAME", "local") + "-"
+                + UUID.randomUUID().toString().substring(0, 8);
+        log.info("Identificador de lease desta réplica: {}", owner);
+    }
+
+    /**
+     * Reivindica a submissão para esta réplica (PENDING → PROCESSING).
+     *
+     * @return true se esta réplica passou a deter o lease
+     */
+    public boolean claim(UUID submissionId) {
+        Instant now = Instant.now();
+        return submissionRepository.claimLease(
+                submissionId, owner, now, now.plusSeconds(properties.getLeaseSeconds())) == 1;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+}
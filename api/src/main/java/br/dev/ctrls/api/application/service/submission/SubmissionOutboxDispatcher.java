@@ -0,0 +1,135 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.application.event.SubmissionCreatedEvent;
+import br.dev.ctrls.api.domain.submission.SubmissionOutbox;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionOutboxRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Poller do outbox de submissões.
+ *
+ * FLUXO:
+ * 1. Transação curta: bloqueia um lote (SKIP LOCKED) e empurra available_at para o futuro
+ * 2. Após o commit: publica SubmissionCreatedEvent para cada entrada do lote
+ * 3. SubmissionEventHandler remove a entrada ao terminar (PROCESSED/ERROR)
+ *
+ * Se o processo cair antes do ack, a entrada volta a ficar visível após o
+ * visibility timeout e é entregue novamente (at-least-once).
+ *
+ * Cada lote é limitado pela capacidade livre da fila de trabalho, como no sweeper:
+ * o que não cabe fica no outbox, visível, para o próximo poll (de qualquer réplica),
+ * em vez de ser reservado, transbordar e voltar a ser entregue após o timeout.
+ */
+@Slf4j
+@Component
+public class SubmissionOutboxDispatcher {
+
+    private final SubmissionOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SubmissionWorkQueue workQueue;
+    private final SubmissionProperties.Outbox properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter dispatchedCounter;
+    private final Timer dispatchDelayTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public SubmissionOutboxDispatcher(SubmissionOutboxRepository outboxRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      SubmissionWorkQueue workQueue,
+                                      SubmissionProperties submissionProperties,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.workQueue = workQueue;
+        this.properties = submissionProperties.getOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.dispatchedCounter = Counter.builder("submission.outbox.dispatched")
+                .description("Entradas do outbox entregues ao processamento assíncrono")
+                .register(meterRegistry);
+        this.dispatchDelayTimer = Timer.builder("submission.outbox.dispatch.delay")
+                .description("Tempo entre a gravação no outbox e o despacho")
+                .register(meterRegistry);
+        Gauge.builder("submission.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("Idade (s) da entrada mais antiga ainda no outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${submission.outbox.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            int limit;
+            while ((limit = Math.min(workQueue.availableCapacity(), properties.getBatchSize())) > 0) {
+                List<Claimed> batch = claimBatch(limit);
+                batch.forEach(entry -> eventPublisher.publishEvent(
+                        new SubmissionCreatedEvent(this, entry.submissionId(), entry.clinicId())));
+                if (batch.size() < limit) {
+                    break;
+                }
+            }
+
+            updateLag();
+        } catch (Exception ex) {
+            log.error("Erro ao despachar outbox de submissões", ex);
+        }
+    }
+
+    /**
+     * Bloqueia e reserva um lote em transação própria e curta.
+     * Retorna apenas os IDs (submissão e clínica): a publicação acontece depois do commit.
+     */
+    List<Claimed> claimBatch(int limit) {
+        List<Claimed> ids = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            Instant invisibleUntil = now.plusSeconds(properties.getVisibilityTimeoutSeconds());
+
+            List<SubmissionOutbox> entries = outboxRepository.lockNextBatch(now, limit);
+            for (SubmissionOutbox entry : entries) {
+                if (entry.getAttempts() == 0) {
+                    dispatchDelayTimer.record(Duration.between(entry.getCreatedAt(), now));
+                } else {
+                    log.warn("Reentregando submissão {} (tentativa {})", entry.getSubmissionId(), entry.getAttempts() + 1);
+                }
+                entry.setAttempts(entry.getAttempts() + 1);
+                entry.setAvailableAt(invisibleUntil);
+            }
+            return entries.stream()
+                    .map(entry -> new Claimed(entry.getSubmissionId(), entry.getClinicId()))
+                    .toList();
+        });
+
+        if (ids != null && !ids.isEmpty()) {
+            dispatchedCounter.increment(ids.size());
+            log.debug("Outbox: {} submissão(ões) despachada(s)", ids.size());
+        }
+        return ids != null ? ids : List.of();
+    }
+
+    record Claimed(UUID submissionId, UUID clinicId) {
+    }
+
+    private void updateLag() {
+        long lag = outboxRepository.findOldestCreatedAt()
+                .map(oldest -> Duration.between(oldest, Instant.now()).toMillis())
+                .orElse(0L);
+        lagMillis.set(Math.max(lag, 0));
+    }
+}
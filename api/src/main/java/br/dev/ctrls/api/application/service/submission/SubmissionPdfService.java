@@ -0,0 +1,74 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.application.service.document.PdfService;
+import br.dev.ctrls.api.application.service.document.PdfStore;
+import br.dev.ctrls.api.application.service.document.StoredPdf;
+import br.dev.ctrls.api.domain.submission.Submission;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import br.dev.ctrls.api.infrastructure.executor.MemoryBudget;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * PDF de uma submissão para download e exportação no dashboard.
+ *
+ * O arquivo gerado pelo pipeline é servido direto do PdfStore. Só renderiza quando
+ * ele não existe nesta réplica (submissão anterior ao armazenamento, ainda não
+ * processada, ou volume não compartilhado) - e guarda o resultado para as próximas.
+ * Renders passam pelo mesmo orçamento de memória do pipeline.
+ */
+@Slf4j
+@Service
+public class SubmissionPdfService {
+
+    private final SubmissionRepository submissionRepository;
+    private final PdfService pdfService;
+    private final PdfStore pdfStore;
+    private final MemoryBudget renderMemoryBudget;
+    private final SubmissionProperties.RenderMemory renderMemory;
+
+    public SubmissionPdfService(SubmissionRepository submissionRepository,
+                                PdfService pdfService,
+                                PdfStore pdfStore,
+                                @Qualifier("renderMemoryBudget") MemoryBudget renderMemoryBudget,
+                                SubmissionProperties submissionProperties) {
+        this.submissionRepository = submissionRepository;
+        this.pdfService = pdfService;
+        this.pdfStore = pdfStore;
+        this.renderMemoryBudget = renderMemoryBudget;
+        this.renderMemory = submissionProperties.getPipeline().getRenderMemory();
+    }
+
+    /**
+     * @throws EntityNotFoundException se a submissão não existe ou é de outra clínica
+     */
+    public StoredPdf findPdf(UUID clinicId, UUID submissionId) {
+        Submission submission = submissionRepository.findByIdWithGraph(submissionId)
+                .filter(found -> found.getTemplate().getClinic().getId().equals(clinicId))
+                .orElseThrow(() -> new EntityNotFoundException("Submissão não encontrada: " + submissionId));
+        return pdfFor(submission);
+    }
+
+    /**
+     * PDF armazenado da submissão, renderizando e armazenando se ainda não existir.
+     * A submissão precisa estar com template carregado.
+     */
+    public StoredPdf pdfFor(Submission submission) {
+        return pdfStore.find(submission.getPdfSha256())
+                .orElseGet(() -> renderMemoryBudget.call(
+                        renderMemory.estimateBytes(submission.getAnswersJson()), () -> render(submission)));
+    }
+
+    private StoredPdf render(Submission submission) {
+        log.info("PDF da submissão {} não armazenado - renderizando", submission.getId());
+        byte[] pdf = pdfService.generateAnamnesisPdf(submission, submission.getTemplate());
+        String sha256 = pdfStore.store(pdf);
+        submissionRepository.recordPdf(submission.getId(), sha256);
+        return pdfStore.find(sha256)
+                .orElseThrow(() -> new IllegalStateException("PDF recém-armazenado não encontrado: " + sha256));
+    }
+}
@@ -0,0 +1,122 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import br.dev.ctrls.api.infrastructure.executor.MemoryBudget;
+import br.dev.ctrls.api.infrastructure.executor.PipelineStage;
+import br.dev.ctrls.api.infrastructure.executor.SubmissionExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pipeline em estágios do processamento de submissões.
+ *
+ * resolve (submissionTaskExecutor) → render → upload → commit
+ *
+ * Cada estágio tem executor e fila próprios (SubmissionPipelineConfig), de modo
+ * que a renderização de PDF (CPU) não disputa threads com chamadas ao Feegow (I/O).
+ * O render ainda passa pelo orçamento de memória: o peso de cada documento é estimado
+ * pelo tamanho do answersJson (submission.pipeline.render-memory).
+ * Falhas em qualquer estágio são encaminhadas para SubmissionEventHandler.fail().
+ */
+@Slf4j
+@Component
+public class SubmissionPipeline {
+
+    private final SubmissionEventHandler handler;
+    private final PipelineStage renderStage;
+    private final PipelineStage uploadStage;
+    private final PipelineStage commitStage;
+    private final MemoryBudget renderMemoryBudget;
+    private final SubmissionProperties.RenderMemory renderMemory;
+    private final Timer resolveTimer;
+
+    public SubmissionPipeline(SubmissionEventHandler handler,
+                              @Qualifier("submissionTaskExecutor") SubmissionExecutor submissionExecutor,
+                              @Qualifier("renderStage") PipelineStage renderStage,
+                              @Qualifier("uploadStage") PipelineStage uploadStage,
+                              @Qualifier("commitStage") PipelineStage commitStage,
+                              @Qualifier("renderMemoryBudget") MemoryBudget renderMemoryBudget,
+                              SubmissionProperties submissionProperties,
+                              MeterRegistry meterRegistry) {
+        this.handler = handler;
+        this.renderStage = renderStage;
+        this.uploadStage = uploadStage;
+        this.commitStage = commitStage;
+        this.renderMemoryBudget = renderMemoryBudget;
+        this.renderMemory = submissionProperties.getPipeline().getRenderMemory();
+
+        // O estágio resolve usa o submissionTaskExecutor: mesmas métricas dos demais estágios
+        this.resolveTimer = Timer.builder("submission.stage.service")
+                .description("Tempo de execução do estágio")
+                .tag("stage", "resolve")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("submission.stage.queue", submissionExecutor, SubmissionExecutor::queuedCount)
+                .description("Itens aguardando na fila do estágio")
+                .tag("stage", "resolve")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Estágio de entrada: executado no submissionTaskExecutor.
+     */
+    public void run(UUID submissionId) {
+        Optional<SubmissionContext> loaded;
+        try {
+            loaded = resolveTimer.recordCallable(() -> {
+                Optional<SubmissionContext> context = handler.load(submissionId);
+                context.ifPresent(handler::resolvePatient);
+                return context;
+            });
+        } catch (Exception ex) {
+            handler.fail(submissionId, ex);
+            return;
+        }
+
+        loaded.ifPresent(context ->
+                handOff(renderStage, context, () -> {
+                    renderMemoryBudget.run(estimateRenderBytes(context), () -> handler.renderPdf(context));
+                    handOff(uploadStage, context, () -> {
+                        handler.upload(context);
+                        handOff(commitStage, context, () -> handler.complete(context));
+                    });
+                }));
+    }
+
+    /**
+     * Heap estimado para renderizar o PDF da submissão.
+     */
+    long estimateRenderBytes(SubmissionContext context) {
+        return renderMemory.estimateBytes(context.getSubmission().getAnswersJson());
+    }
+
+    /**
+     * Entrega o próximo passo ao estágio, bloqueando enquanto a fila dele estiver cheia.
+     */
+    private void handOff(PipelineStage stage, SubmissionContext context, Runnable step) {
+        UUID submissionId = context.getSubmissionId();
+        try {
+            stage.submit(() -> {
+                try {
+                    step.run();
+                } catch (Exception ex) {
+                    handler.fail(submissionId, ex);
+                }
+            });
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Hand-off para '{}' interrompido; submissão {} será reentregue pelo outbox",
+                    stage.getName(), submissionId);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Estágio '{}' encerrando; submissão {} será reentregue pelo outbox",
+                    stage.getName(), submissionId);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.Submission;
+import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Varredura de recuperação de submissões abandonadas (multi-réplica).
+ *
+ * FLUXO (por réplica, em paralelo com as demais):
+ * 1. Transação curta: bloqueia um lote com SELECT ... FOR UPDATE SKIP LOCKED
+ * 2. Volta o status para PENDING e reserva o lease para esta réplica
+ * 3. Após o commit: reenfileira no pipeline, que faz o claim PENDING → PROCESSING
+ *
+ * Submissões em ERROR só são recolhidas se a falha foi marcada como temporária
+ * (error_retryable): um erro definitivo não é reenviado ao Feegow. Cada recolhimento
+ * de ERROR soma error_recoveries, limitado por max-error-recoveries (attempts não
+ * serve de teto: conta também os retries agendados e as retomadas de PARKED).
+ *
+ * O lote é limitado pela capacidade livre do executor local, então cada réplica
+ * recolhe o que consegue processar e a vazão cresce com o número de réplicas.
+ * Essa capacidade é global: se a fila de uma clínica recusar uma submissão, o
+ * reenfileiramento para ali (a recusada vai para o spill) e o restante do lote
+ * fica com a reserva desta réplica até vencer, quando volta a ser recolhido.
+ */
+@Slf4j
+@Component
+public class SubmissionRecoverySweeper {
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionLeaseService leaseService;
+    private final SubmissionWorkQueue workQueue;
+    private final SubmissionProperties.Recovery properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter recoveredCounter;
+
+    public SubmissionRecoverySweeper(SubmissionRepository submissionRepository,
+                                     SubmissionLeaseService leaseService,
+                                     SubmissionWorkQueue workQueue,
+                                     SubmissionProperties submissionProperties,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry) {
+        this.submissionRepository = submissionRepository;
+        this.leaseService = leaseService;
+        this.workQueue = workQueue;
+        this.properties = submissionProperties.getRecovery();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recoveredCounter = Counter.builder("submission.recovery.redispatched")
+                .description("Submissões abandonadas recolhidas e reenfileiradas pelo sweeper")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${submission.recovery.sweep-interval-ms:30000}",
+               initialDelayString = "${submission.recovery.sweep-interval-ms:30000}")
+    public void sweep() {
+        try {
+            int limit = Math.min(workQueue.availableCapacity(), properties.getBatchSize());
+            if (limit <= 0) {
+                return;
+            }
+
+            List<UUID> ids = claimStale(limit);
+            int accepted = 0;
+            for (UUID id : ids) {
+                if (!workQueue.submit(id)) {
+                    log.info("Sweeper: fila da clínica cheia; {} submissão(ões) aguardam a próxima varredura",
+                            ids.size() - accepted - 1);
+                    break;
+                }
+                accepted++;
+            }
+
+            if (accepted > 0) {
+                recoveredCounter.increment(accepted);
+                log.info("Sweeper: {} submissão(ões) abandonada(s) reenfileirada(s)", accepted);
+            }
+        } catch (Exception ex) {
+            log.error("Erro na varredura de recuperação de submissões", ex);
+        }
+    }
+
+    List<UUID> claimStale(int limit) {
+        List<UUID> ids = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<Submission> stale = submissionRepository.lockStaleForRecovery(
+                    now,
+                    now.minusSeconds(properties.getStaleAfterSeconds()),
+                    now.minusSeconds(properties.getErrorRetryAfterSeconds()),
+                    properties.getMaxErrorRecoveries(),
+                    limit);
+
+            Instant reservedUntil = now.plusSeconds(properties.getReservationSeconds());
+            for (Submission submission : stale) {
+                log.warn("Sweeper: recolhendo submissão {} ({}, tentativas={}, lease={})",
+                        submission.getId(), submission.getStatus(), submission.getAttempts(),
+                        submission.getLeaseOwner());
+                if (submission.getStatus() == SubmissionStatus.ERROR) {
+                    submission.setErrorRecoveries(submission.getErrorRecoveries() + 1);
+                }
+                submission.setStatus(SubmissionStatus.PENDING);
+                submission.setLeaseOwner(leaseService.getOwner());
+                submission.setLeaseUntil(reservedUntil);
+            }
+            return stale.stream().map(Submission::getId).toList();
+        });
+        return ids != null ? ids : List.of();
+    }
+}
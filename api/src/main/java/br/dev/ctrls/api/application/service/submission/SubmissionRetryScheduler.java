@@ -0,0 +1,168 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.Submission;
+import br.dev.ctrls.api.domain.submission.SubmissionOutbox;
+import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionOutboxRepository;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Agenda novas tentativas para falhas temporárias no Feegow sem bloquear threads.
+ *
+ * FLUXO (transação curta):
+ * 1. Submissão volta para PENDING com retry_count+1, next_attempt_at e last_error; lease liberado
+ *    (UPDATE condicional ao lease: se outra réplica assumiu, nada é alterado)
+ * 2. A entrada do outbox fica invisível até next_attempt_at
+ * 3. O SubmissionOutboxDispatcher reentrega quando o horário chega
+ *
+ * Recusas locais ({@link FeegowUnavailableException}: circuito aberto, bulkhead cheio,
+ * cota esgotada) estacionam a submissão (PARKED) até o circuito meio-abrir ou a cota
+ * repor, sem incrementar retry_count.
+ *
+ * O worker é liberado imediatamente: durante uma instabilidade do Feegow o pool
+ * continua atendendo as demais clínicas. O agendamento fica no banco e sobrevive a restarts.
+ */
+@Slf4j
+@Component
+public class SubmissionRetryScheduler {
+
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionOutboxRepository outboxRepository;
+    private final SubmissionLeaseService leaseService;
+    private final SubmissionProperties.Retry properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public SubmissionRetryScheduler(SubmissionRepository submissionRepository,
+                                    SubmissionOutboxRepository outboxRepository,
+                                    SubmissionLeaseService leaseService,
+                                    SubmissionProperties submissionProperties,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.submissionRepository = submissionRepository;
+        this.outboxRepository = outboxRepository;
+        this.leaseService = leaseService;
+        this.properties = submissionProperties.getRetry();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Agenda a próxima tentativa da submissão.
+     *
+     * @return false se as tentativas se esgotaram (o chamador deve marcar ERROR)
+     */
+    public boolean schedule(UUID submissionId, FeegowTransientException ex) {
+        Boolean scheduled = transactionTemplate.execute(status -> {
+            Submission submission = submissionRepository.findById(submissionId).orElse(null);
+            if (submission == null) {
+                return false;
+            }
+            if (submission.getRetryCount() >= properties.getMaxRetries()) {
+                return false;
+            }
+
+            int retry = submission.getRetryCount() + 1;
+            Instant nextAttemptAt = Instant.now().plusMillis(backoffMillis(retry));
+            if (!release(submission, SubmissionStatus.PENDING, retry, nextAttemptAt, ex.getMessage())) {
+                // Outra réplica assumiu a submissão: o agendamento é dela, nada a marcar aqui
+                return true;
+            }
+
+            log.warn("Falha temporária ({}) na submissão {}: retry {}/{} agendado para {}",
+                    ex.getOperation(), submissionId, retry, properties.getMaxRetries(), nextAttemptAt);
+            return true;
+        });
+
+        boolean result = Boolean.TRUE.equals(scheduled);
+        meterRegistry.counter(result ? "submission.retry.scheduled" : "submission.retry.exhausted",
+                "operation", ex.getOperation()).increment();
+        return result;
+    }
+
+    /**
+     * Estaciona a submissão (PARKED) enquanto o Feegow da clínica está recusado localmente.
+     *
+     * A chamada não chegou ao Feegow, então retry_count não muda: uma queda longa
+     * de uma clínica não esgota as tentativas das submissões dela.
+     */
+    public void park(UUID submissionId, FeegowUnavailableException ex) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Submission submission = submissionRepository.findById(submissionId).orElse(null);
+            if (submission == null) {
+                return;
+            }
+
+            Instant nextAttemptAt = Instant.now().plusMillis(parkMillis(ex.getRetryAfter()));
+            if (!release(submission, SubmissionStatus.PARKED, submission.getRetryCount(), nextAttemptAt,
+                    ex.getMessage())) {
+                return;
+            }
+
+            log.warn("Submissão {} estacionada ({}) até {}: {}",
+                    submissionId, ex.getOperation(), nextAttemptAt, ex.getMessage());
+        });
+        meterRegistry.counter("submission.retry.parked", "operation", ex.getOperation()).increment();
+    }
+
+    /**
+     * Libera o lease (se esta réplica ainda o detém) e deixa a entrada do outbox
+     * invisível até nextAttemptAt.
+     *
+     * @return false se o lease foi perdido (expirou e outra réplica assumiu): nada é alterado
+     */
+    private boolean release(Submission submission, SubmissionStatus status, int retryCount,
+                            Instant nextAttemptAt, String error) {
+        int updated = submissionRepository.releaseForRetry(submission.getId(), leaseService.getOwner(),
+                status.name(), retryCount, nextAttemptAt, truncate(error), Instant.now());
+        if (updated == 0) {
+            log.warn("Submissão {} não está mais sob lease desta réplica - retry não agendado", submission.getId());
+            return false;
+        }
+
+        SubmissionOutbox entry = outboxRepository.findBySubmissionId(submission.getId())
+                .orElseGet(() -> SubmissionOutbox.builder()
+                        .submissionId(submission.getId())
+                        .clinicId(submission.getTemplate().getClinic().getId())
+                        .build());
+        entry.setAvailableAt(nextAttemptAt);
+        outboxRepository.save(entry);
+        return true;
+    }
+
+    /**
+     * Backoff exponencial com jitter (entre metade e o valor cheio),
+     * para que uma instabilidade não sincronize todos os retries no mesmo instante.
+     */
+    long backoffMillis(int retry) {
+        double exponential = properties.getInitialDelayMs() * Math.pow(properties.getMultiplier(), retry - 1);
+        long capped = (long) Math.min(exponential, properties.getMaxDelayMs());
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    /**
+     * Espera informada (circuito ou cota) + até 50% de jitter, para que as submissões estacionadas
+     * não voltem todas juntas no meio-aberto. Sem prazo (bulkhead cheio), usa o atraso inicial.
+     */
+    long parkMillis(Duration retryAfter) {
+        long base = retryAfter != null ? retryAfter.toMillis() : properties.getInitialDelayMs();
+        return base + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
@@ -1,18 +1,19 @@
 package br.dev.ctrls.api.application.service.submission;
 
-import br.dev.ctrls.api.application.event.SubmissionCreatedEvent;
 import br.dev.ctrls.api.domain.form.FormTemplate;
 import br.dev.ctrls.api.domain.form.repository.FormTemplateRepository;
 import br.dev.ctrls.api.domain.submission.Submission;
+import br.dev.ctrls.api.domain.submission.SubmissionOutbox;
 import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionOutboxRepository;
 import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
 import br.dev.ctrls.api.web.dto.SubmissionRequest;
 import br.dev.ctrls.api.web.dto.SubmissionResponse;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,8 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
  * ARQUITETURA:
  * - Método síncrono (submitForm): valida e salva submissão com status PENDING
  * - Retorna imediatamente ao cliente (resposta rápida)
- * - Publica evento para processamento assíncrono
- * - SubmissionEventHandler processa integração Feegow em background
+ * - Grava entrada no outbox na MESMA transação (sobrevive a restart/deploy)
+ * - SubmissionOutboxDispatcher entrega ao SubmissionEventHandler em background
  */
 @Slf4j
 @Service
@@ -32,13 +33,13 @@ public class SubmissionService {
 
     private final FormTemplateRepository templateRepository;
     private final SubmissionRepository submissionRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final SubmissionOutboxRepository outboxRepository;
 
     /**
      * Recebe submissão do formulário e agenda processamento assíncrono.
      *
      * IMPORTANTE:
-     * - Esta transação é RÁPIDA (apenas validação + insert)
+     * - Esta transação é RÁPIDA (apenas validação + insert da submissão e do outbox)
      * - NÃO faz chamadas HTTP nem geração de PDF
      * - Libera conexão do pool imediatamente
      *
@@ -69,9 +70,13 @@ public class SubmissionService {
 
         submission = submissionRepository.save(submission);
 
-        // 3. Publicar evento para processamento assíncrono
-        // O SubmissionEventHandler vai processar em background
-        eventPublisher.publishEvent(new SubmissionCreatedEvent(this, submission.getId()));
+        // 3. Registrar no outbox (mesma transação) para processamento assíncrono
+        // O SubmissionOutboxDispatcher entrega ao SubmissionEventHandler após o commit
+        outboxRepository.save(SubmissionOutbox.builder()
+                .submissionId(submission.getId())
+                .clinicId(template.getClinic().getId())
+                .availableAt(Instant.now())
+                .build());
 
         log.info("Submissão criada com sucesso. ID: {} - Status: PENDING", submission.getId());
 
@@ -0,0 +1,94 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reenfileira automaticamente as submissões transbordadas quando o executor
+ * volta a ter capacidade. Também atende ao replay manual do endpoint admin.
+ */
+@Slf4j
+@Component
+public class SubmissionSpillDrainer {
+
+    private final SubmissionSpillStore spillStore;
+    private final SubmissionWorkQueue workQueue;
+    private final SubmissionProperties.Spill properties;
+
+    private final Counter replayedCounter;
+    private final AtomicLong depth = new AtomicLong();
+
+    public SubmissionSpillDrainer(SubmissionSpillStore spillStore,
+                                  SubmissionWorkQueue workQueue,
+                                  SubmissionProperties submissionProperties,
+                                  MeterRegistry meterRegistry) {
+        this.spillStore = spillStore;
+        this.workQueue = workQueue;
+        this.properties = submissionProperties.getSpill();
+
+        this.replayedCounter = Counter.builder("submission.spill.replayed")
+                .description("Submissões reenfileiradas a partir da fila de transbordo")
+                .register(meterRegistry);
+        Gauge.builder("submission.spill.depth", depth, AtomicLong::get)
+                .description("Submissões aguardando na fila de transbordo")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${submission.spill.drain-interval-ms:1000}")
+    public void drain() {
+        try {
+            replay();
+        } catch (Exception ex) {
+            log.error("Erro ao drenar fila de transbordo de submissões", ex);
+        }
+    }
+
+    /**
+     * Reenfileira até o limite de capacidade livre do executor.
+     *
+     * A capacidade livre é global; a fila de uma clínica pode estar cheia mesmo assim.
+     * Só conta o que o escalonador aceitou, e a passada termina no primeiro lote com
+     * rejeição (as rejeitadas voltam ao spill) - sem isso, uma clínica no limite faria
+     * take/spill em loop no banco.
+     *
+     * @return quantidade de submissões reenfileiradas
+     */
+    public int replay() {
+        int replayed = 0;
+        int capacity;
+        while ((capacity = Math.min(workQueue.availableCapacity(), properties.getDrainBatchSize())) > 0) {
+            List<UUID> ids = spillStore.take(capacity);
+            int accepted = 0;
+            for (UUID id : ids) {
+                if (workQueue.submit(id)) {
+                    accepted++;
+                }
+            }
+            replayed += accepted;
+            if (ids.size() < capacity || accepted < ids.size()) {
+                break;
+            }
+        }
+
+        if (replayed > 0) {
+            replayedCounter.increment(replayed);
+            log.info("Fila de transbordo: {} submissão(ões) reenfileirada(s)", replayed);
+        }
+        depth.set(spillStore.depth());
+        return replayed;
+    }
+
+    public long depth() {
+        long current = spillStore.depth();
+        depth.set(current);
+        return current;
+    }
+}
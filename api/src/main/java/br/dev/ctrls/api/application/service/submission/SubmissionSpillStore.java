@@ -0,0 +1,72 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.SubmissionSpill;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionSpillRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Armazenamento durável (Postgres) para submissões rejeitadas pelo executor.
+ *
+ * Mantido sem dependência do executor para poder ser usado dentro do
+ * RejectedExecutionHandler configurado em AsyncConfig.
+ */
+@Slf4j
+@Component
+public class SubmissionSpillStore {
+
+    private final SubmissionSpillRepository spillRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter spilledCounter;
+
+    public SubmissionSpillStore(SubmissionSpillRepository spillRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.spillRepository = spillRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.spilledCounter = Counter.builder("submission.spill.spilled")
+                .description("Submissões rejeitadas pelo executor e persistidas na fila de transbordo")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Persiste a submissão rejeitada. Idempotente por submission_id.
+     */
+    public void spill(UUID submissionId) {
+        spillRepository.spill(submissionId);
+        spilledCounter.increment();
+        log.warn("Submissão {} transbordada para fila persistente (executor saturado)", submissionId);
+    }
+
+    /**
+     * Remove e retorna até {@code limit} submissões, das mais antigas para as mais novas.
+     * Se o reenfileiramento falhar depois, a entrada do outbox garante a reentrega.
+     */
+    public List<UUID> take(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<UUID> ids = transactionTemplate.execute(status -> {
+            List<SubmissionSpill> entries = spillRepository.lockOldest(limit);
+            spillRepository.deleteAllInBatch(entries);
+            return entries.stream().map(SubmissionSpill::getSubmissionId).toList();
+        });
+        return ids != null ? ids : List.of();
+    }
+
+    public long depth() {
+        return spillRepository.count();
+    }
+
+    public Optional<Instant> oldestSpilledAt() {
+        return spillRepository.findOldestCreatedAt();
+    }
+}
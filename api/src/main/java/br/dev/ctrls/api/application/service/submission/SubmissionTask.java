@@ -0,0 +1,26 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import java.util.UUID;
+
+/**
+ * Unidade de trabalho enviada ao submissionTaskExecutor.
+ *
+ * Carrega o ID da submissão para que o RejectedExecutionHandler consiga
+ * transbordá-la para a fila persistente em vez de descartá-la.
+ * onRejected é chamado pelo handler depois do transbordo (a tarefa nunca vai executar).
+ */
+public record SubmissionTask(UUID submissionId, Runnable work, Runnable onRejected) implements Runnable {
+
+    public SubmissionTask(UUID submissionId, Runnable work) {
+        this(submissionId, work, () -> { });
+    }
+
+    @Override
+    public void run() {
+        work.run();
+    }
+
+    public void rejected() {
+        onRejected.run();
+    }
+}
@@ -0,0 +1,80 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.application.event.SubmissionCreatedEvent;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Porta de entrada do pipeline de submissões.
+ *
+ * Cada submissão vira uma {@link SubmissionTask} na fila da sua clínica no
+ * {@link SubmissionFairScheduler}, que alimenta o submissionTaskExecutor de forma justa.
+ * Se a fila da clínica estiver cheia, a submissão é transbordada para o spill.
+ * A tarefa executa o estágio de entrada do {@link SubmissionPipeline}.
+ */
+@Slf4j
+@Component
+public class SubmissionWorkQueue {
+
+    private final SubmissionFairScheduler scheduler;
+    private final SubmissionPipeline pipeline;
+    private final SubmissionSpillStore spillStore;
+    private final SubmissionRepository submissionRepository;
+
+    public SubmissionWorkQueue(SubmissionFairScheduler scheduler,
+                               SubmissionPipeline pipeline,
+                               SubmissionSpillStore spillStore,
+                               SubmissionRepository submissionRepository) {
+        this.scheduler = scheduler;
+        this.pipeline = pipeline;
+        this.spillStore = spillStore;
+        this.submissionRepository = submissionRepository;
+    }
+
+    @EventListener
+    public void onSubmissionCreated(SubmissionCreatedEvent event) {
+        if (event.getClinicId() != null) {
+            submit(event.getSubmissionId(), event.getClinicId());
+        } else {
+            submit(event.getSubmissionId());
+        }
+    }
+
+    /**
+     * Enfileira a submissão resolvendo a clínica no banco (spill e sweeper).
+     *
+     * @return false se a fila da clínica estava cheia e a submissão foi transbordada
+     *         (submissão inexistente não é rejeição: retorna true)
+     */
+    public boolean submit(UUID submissionId) {
+        return submissionRepository.findClinicIdById(submissionId)
+                .map(clinicId -> submit(submissionId, clinicId))
+                .orElseGet(() -> {
+                    log.warn("Submissão {} não encontrada; ignorando reenfileiramento", submissionId);
+                    return true;
+                });
+    }
+
+    /**
+     * @return false se a fila da clínica estava cheia e a submissão foi transbordada
+     */
+    public boolean submit(UUID submissionId, UUID clinicId) {
+        SubmissionTask task = new SubmissionTask(submissionId, () -> pipeline.run(submissionId));
+        if (!scheduler.enqueue(clinicId, task)) {
+            spillStore.spill(submissionId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Vagas livres no escalonador, somando todas as clínicas. É só um teto:
+     * a fila de uma clínica pode estar cheia mesmo com vagas livres no total.
+     */
+    public int availableCapacity() {
+        return scheduler.availableCapacity();
+    }
+}
@@ -12,8 +12,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * Cliente Feign para operações primárias com o Feegow.
+ * O upload é serializado pelo FeegowUploadEncoder (base64 direto no corpo).
  */
-@FeignClient(name = "feegowClient", url = "${integration.feegow.base-url}")
+@FeignClient(name = "feegowClient", url = "${integration.feegow.base-url}", configuration = FeegowClientConfig.class)
 public interface FeegowClient {
 
     @GetMapping(value = "/patient/list")
@@ -0,0 +1,45 @@
+package br.dev.ctrls.api.client.feegow;
+
+import br.dev.ctrls.api.infrastructure.config.props.IntegrationProperties;
+import feign.Client;
+import feign.codec.Encoder;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import java.net.http.HttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuração específica do FeegowClient.
+ *
+ * Sem @Configuration de propósito: é registrada apenas no contexto do cliente
+ * via @FeignClient(configuration = ...), sem afetar outros clientes Feign.
+ */
+public class FeegowClientConfig {
+
+    @Bean
+    public Encoder feignEncoder(ObjectFactory<HttpMessageConverters> messageConverters) {
+        return new FeegowUploadEncoder(new SpringEncoder(messageConverters));
+    }
+
+    /**
+     * Transporte HTTP do FeegowClient (integration.feegow.http.version).
+     *
+     * HTTP_1_1: Apache HttpClient 5 com pool keep-alive e métricas (FeegowHttpClientConfig).
+     * HTTP_2: JDK HttpClient multiplexando as requisições numa única conexão. Não expõe
+     * métricas de pool nem descompacta gzip, então só vale quando o Feegow negocia h2.
+     */
+    @Bean
+    public Client feignClient(IntegrationProperties integrationProperties, CloseableHttpClient feegowHttpClient) {
+        if (integrationProperties.getFeegow().getHttp().getVersion() == IntegrationProperties.Http.Version.HTTP_2) {
+            return new Http2Client(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build());
+        }
+        return new ApacheHttp5Client(feegowHttpClient);
+    }
+}
@@ -0,0 +1,111 @@
+package br.dev.ctrls.api.client.feegow;
+
+import br.dev.ctrls.api.client.feegow.dto.UploadFileRequest;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encoder do Feegow que serializa {@link UploadFileRequest} sem cópias intermediárias.
+ *
+ * ANTES: byte[] do PDF → String base64 → buffer do Jackson → byte[] do corpo
+ * (3-4 cópias do documento no heap por upload).
+ *
+ * AGORA: o tamanho final do JSON é calculado antes, um único byte[] é alocado e
+ * o base64 é codificado direto nele. O Feign mantém o corpo da requisição como
+ * byte[], então este é o menor número de cópias possível sem trocar de cliente HTTP.
+ *
+ * Demais tipos são delegados ao encoder padrão (Jackson).
+ */
+public class FeegowUploadEncoder implements Encoder {
+
+    private static final byte[] PATIENT_ID_FIELD = "{\"patient_id\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FILE_FIELD = ",\"base64_file\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FILENAME_FIELD = "\",\"filename\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Encoder delegate;
+
+    public FeegowUploadEncoder(Encoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) throws EncodeException {
+        if (!(object instanceof UploadFileRequest upload)) {
+            delegate.encode(object, bodyType, template);
+            return;
+        }
+
+        template.removeHeader("Content-Type");
+        template.header("Content-Type", "application/json");
+        template.body(toJson(upload), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gera o JSON do upload em um único array, no tamanho exato.
+     */
+    static byte[] toJson(UploadFileRequest upload) {
+        byte[] patientId = String.valueOf(upload.patient_id()).getBytes(StandardCharsets.UTF_8);
+        byte[] filename = JsonStringEncoder.getInstance().quoteAsUTF8(upload.filename());
+        byte[] file = upload.file();
+        int base64Length = 4 * ((file.length + 2) / 3);
+
+        byte[] body = new byte[PATIENT_ID_FIELD.length + patientId.length + FILE_FIELD.length
+                + base64Length + FILENAME_FIELD.length + filename.length + END.length];
+
+        ArrayWriter writer = new ArrayWriter(body);
+        writer.write(PATIENT_ID_FIELD);
+        writer.write(patientId);
+        writer.write(FILE_FIELD);
+        try (OutputStream base64 = Base64.getEncoder().wrap(writer)) {
+            base64.write(file);
+        } catch (IOException ex) {
+            throw new EncodeException("Falha ao codificar arquivo em base64", ex);
+        }
+        writer.write(FILENAME_FIELD);
+        writer.write(filename);
+        writer.write(END);
+        return body;
+    }
+
+    /**
+     * OutputStream sobre um array pré-alocado (sem crescimento nem cópia final).
+     * close() é ignorado para que o fechamento do stream base64 não encerre a escrita.
+     */
+    private static final class ArrayWriter extends OutputStream {
+        private final byte[] target;
+        private int position;
+
+        private ArrayWriter(byte[] target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) {
+            target[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            System.arraycopy(bytes, offset, target, position, length);
+            position += length;
+        }
+
+        @Override
+        public void close() {
+            // Mantém o array aberto para os campos seguintes
+        }
+    }
+}
@@ -3,12 +3,15 @@ package br.dev.ctrls.api.client.feegow.dto;
 import jakarta.validation.constraints.NotBlank;
 
 /**
- * Solicitação para envio de arquivo em base64.
+ * Solicitação para envio de arquivo ao Feegow.
+ *
+ * Carrega os bytes crus do arquivo: o FeegowUploadEncoder gera o JSON
+ * {"patient_id", "base64_file", "filename"} codificando o base64 direto no
+ * corpo da requisição, sem String intermediária.
  */
 public record UploadFileRequest(
         Long patient_id,
-        @NotBlank String base64_file,
+        byte[] file,
         @NotBlank String filename
 ) {
 }
-
@@ -0,0 +1,283 @@
+package br.dev.ctrls.api.client.feegow.simulator;
+
+import br.dev.ctrls.api.infrastructure.config.props.FeegowSimulatorProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servidor HTTP que imita o Feegow para testes de carga do pipeline de submissões.
+ *
+ * Implementa as rotas usadas pelo FeegowClient:
+ * - GET  /patient/list?cpf=  - lista pacientes do token pelo CPF
+ * - POST /patient            - cria paciente e retorna o ID
+ * - POST /patient/files      - recebe o upload (corpo descartado) e retorna o ID do arquivo
+ *
+ * Cada token é um tenant isolado (pacientes e throttling próprios).
+ * Latência e falhas seguem FeegowSimulatorProperties:
+ * distribuição por rota (FIXED, UNIFORM, LOG_NORMAL), taxas de 401/413/503,
+ * tokens revogados e limite de requisições/s por token (429 com Retry-After).
+ *
+ * Uso em testes: new FeegowSimulator(properties).start() e getBaseUrl() em integration.feegow.base-url.
+ * No perfil loadtest o FeegowSimulatorConfig sobe o simulador junto com a aplicação.
+ */
+@Slf4j
+public class FeegowSimulator implements AutoCloseable {
+
+    /** Quantil 0,99 da normal padrão: sigma da log-normal = ln(p99 / mediana) / Z_99. */
+    private static final double Z_99 = 2.326;
+
+    private final FeegowSimulatorProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Long> patients = new ConcurrentHashMap<>();
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> responses = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong(1000);
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public FeegowSimulator(FeegowSimulatorProperties properties) {
+        this.properties = properties;
+    }
+
+    public synchronized FeegowSimulator start() {
+        if (server != null) {
+            return this;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", properties.getPort()), 0);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Não foi possível iniciar o simulador do Feegow", ex);
+        }
+        executor = Executors.newFixedThreadPool(properties.getThreads());
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        log.info("✅ [FeegowSimulator] Simulador do Feegow em {}", getBaseUrl());
+        return this;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        log.info("[FeegowSimulator] Simulador do Feegow encerrado");
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Respostas enviadas com o status informado (200, 401, 413, 429, 503...).
+     */
+    public long getResponseCount(int status) {
+        LongAdder count = responses.get(status);
+        return count != null ? count.sum() : 0;
+    }
+
+    public long getTotalResponses() {
+        return responses.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Esquece pacientes, janelas de throttling e contadores (entre cenários de um mesmo teste).
+     */
+    public void reset() {
+        patients.clear();
+        windows.clear();
+        responses.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String token = exchange.getRequestHeaders().getFirst("x-access-token");
+
+            if ("GET".equals(method) && path.endsWith("/patient/list")) {
+                sleep(properties.getList());
+                if (!rejected(exchange, token, false)) {
+                    listPatients(exchange, token);
+                }
+            } else if ("POST".equals(method) && path.endsWith("/patient/files")) {
+                byte[] body = readBody(exchange.getRequestBody());
+                sleep(properties.getUpload());
+                if (!rejected(exchange, token, true) && !tooLarge(exchange, body.length)) {
+                    respond(exchange, 200, Long.toString(ids.incrementAndGet()));
+                }
+            } else if ("POST".equals(method) && path.endsWith("/patient")) {
+                byte[] body = readBody(exchange.getRequestBody());
+                sleep(properties.getCreate());
+                if (!rejected(exchange, token, false)) {
+                    createPatient(exchange, token, body);
+                }
+            } else {
+                respond(exchange, 404, "{\"error\":\"rota não simulada\"}");
+            }
+        } catch (RuntimeException ex) {
+            log.warn("[FeegowSimulator] Falha ao atender requisição: {}", ex.getMessage());
+        }
+    }
+
+    private void listPatients(HttpExchange exchange, String token) throws IOException {
+        String cpf = queryParam(exchange.getRequestURI(), "cpf");
+        Long id = cpf != null ? patients.get(token + ":" + cpf) : null;
+        List<Map<String, Object>> content = id == null
+                ? List.of()
+                : List.of(Map.of("id", id, "nome", "Paciente Simulado", "cpf", cpf));
+        respond(exchange, 200, objectMapper.writeValueAsString(Map.of("content", content)));
+    }
+
+    private void createPatient(HttpExchange exchange, String token, byte[] body) throws IOException {
+        JsonNode request = objectMapper.readTree(body);
+        String cpf = request.path("cpf").asText();
+        Long id = patients.computeIfAbsent(token + ":" + cpf, key -> ids.incrementAndGet());
+        respond(exchange, 200, Long.toString(id));
+    }
+
+    /**
+     * Aplica throttling e falhas injetadas. Retorna true se a requisição já foi respondida com erro.
+     */
+    private boolean rejected(HttpExchange exchange, String token, boolean upload) throws IOException {
+        FeegowSimulatorProperties.Faults faults = properties.getFaults();
+
+        if (throttled(token)) {
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            respond(exchange, 429, "{\"error\":\"Too Many Requests\"}");
+            return true;
+        }
+        if (token == null || faults.getRevokedTokens().contains(token) || chance(faults.getUnauthorizedRate())) {
+            respond(exchange, 401, "{\"error\":\"Token inválido\"}");
+            return true;
+        }
+        if (chance(faults.getUnavailableRate())) {
+            respond(exchange, 503, "{\"error\":\"Service Unavailable\"}");
+            return true;
+        }
+        if (upload && chance(faults.getPayloadTooLargeRate())) {
+            respond(exchange, 413, "{\"error\":\"Payload Too Large\"}");
+            return true;
+        }
+        return false;
+    }
+
+    private boolean tooLarge(HttpExchange exchange, int bodyLength) throws IOException {
+        long max = properties.getFaults().getMaxUploadBytes();
+        if (max > 0 && bodyLength > max) {
+            respond(exchange, 413, "{\"error\":\"Payload Too Large\"}");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Janela fixa de 1 s por token.
+     */
+    private boolean throttled(String token) {
+        int max = properties.getFaults().getMaxRequestsPerSecond();
+        if (max <= 0) {
+            return false;
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        Window window = windows.compute(String.valueOf(token),
+                (key, current) -> current == null || current.second != second ? new Window(second) : current);
+        return window.count.incrementAndGet() > max;
+    }
+
+    private void sleep(FeegowSimulatorProperties.Latency latency) {
+        long millis = sampleMillis(latency);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static long sampleMillis(FeegowSimulatorProperties.Latency latency) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (latency.getDistribution()) {
+            case FIXED -> latency.getMedianMs();
+            case UNIFORM -> latency.getP99Ms() > 0 ? random.nextLong(latency.getP99Ms() + 1) : 0;
+            case LOG_NORMAL -> {
+                if (latency.getMedianMs() <= 0) {
+                    yield 0;
+                }
+                double median = latency.getMedianMs();
+                double p99 = Math.max(latency.getP99Ms(), median);
+                double sigma = Math.log(p99 / median) / Z_99;
+                yield Math.round(Math.exp(Math.log(median) + sigma * random.nextGaussian()));
+            }
+        };
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        // Conta antes de responder: quem lê o contador após receber a resposta já o vê atualizado
+        responses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static boolean chance(double rate) {
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private static byte[] readBody(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String queryParam(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static final class Window {
+        private final long second;
+        private final AtomicLong count = new AtomicLong();
+
+        private Window(long second) {
+            this.second = second;
+        }
+    }
+}
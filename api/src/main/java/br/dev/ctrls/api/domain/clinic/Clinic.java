@@ -2,10 +2,12 @@ package br.dev.ctrls.api.domain.clinic;
 
 import br.dev.ctrls.api.domain.common.BaseEntity;
 import br.dev.ctrls.api.domain.user.Doctor;
+import br.dev.ctrls.api.infrastructure.persistence.PublicFormChangeListener;
 import br.dev.ctrls.api.infrastructure.persistence.converter.EncryptedStringConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
@@ -29,6 +31,7 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(PublicFormChangeListener.class)
 @Table(name = "clinics")
 public class Clinic extends BaseEntity {
 
@@ -5,6 +5,7 @@ import org.hibernate.type.SqlTypes;
 import br.dev.ctrls.api.domain.clinic.Clinic;
 import br.dev.ctrls.api.domain.common.BaseEntity;
 import br.dev.ctrls.api.domain.user.Doctor;
+import br.dev.ctrls.api.infrastructure.persistence.PublicFormChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import java.util.UUID;
@@ -16,6 +17,7 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(PublicFormChangeListener.class)
 @Table(name = "form_templates")
 public class FormTemplate extends BaseEntity {
 
@@ -3,8 +3,11 @@ package br.dev.ctrls.api.domain.form.repository;
 import br.dev.ctrls.api.domain.form.FormTemplate;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,4 +18,12 @@ public interface FormTemplateRepository extends JpaRepository<FormTemplate, UUID
     // Isso evita o erro de LazyInitializationException no Controller
     @EntityGraph(attributePaths = {"clinic", "doctor"})
     Optional<FormTemplate> findByPublicUuid(UUID publicUuid);
+
+    /** Formulários que exibem a marca da clínica (invalidação do PublicFormCache). */
+    @Query("SELECT t.publicUuid FROM FormTemplate t WHERE t.clinic.id = :clinicId")
+    List<UUID> findPublicUuidsByClinicId(@Param("clinicId") UUID clinicId);
+
+    /** Formulários que exibem o perfil do médico (invalidação do PublicFormCache). */
+    @Query("SELECT t.publicUuid FROM FormTemplate t WHERE t.doctor.id = :doctorId")
+    List<UUID> findPublicUuidsByDoctorId(@Param("doctorId") UUID doctorId);
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
+import java.time.Instant;
+
 @Getter
 @Setter
 @SuperBuilder(toBuilder = true)
@@ -46,4 +48,44 @@ public class Submission extends BaseEntity {
 
     @Column(name = "feegow_patient_id")
     private String feegowPatientId;
+
+    /** Quantas vezes a submissão foi reivindicada para processamento. */
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    /** Réplica que detém o lease de processamento. */
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    /** Vencimento do lease; depois disso o sweeper pode recolher a submissão. */
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    /** Retries agendados após falhas temporárias no Feegow. */
+    @Builder.Default
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount = 0;
+
+    /** Próxima tentativa agendada; antes disso a submissão não é reivindicada. */
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    /** Última falha registrada (temporária ou definitiva). */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** ERROR causado por falha temporária: o sweeper pode tentar de novo. */
+    @Builder.Default
+    @Column(name = "error_retryable", nullable = false)
+    private boolean errorRetryable = false;
+
+    /** Vezes que o sweeper recolheu a submissão de um ERROR temporário. */
+    @Builder.Default
+    @Column(name = "error_recoveries", nullable = false)
+    private int errorRecoveries = 0;
+
+    /** SHA-256 do PDF gerado (chave no PdfStore); null até o primeiro render. */
+    @Column(name = "pdf_sha256", length = 64)
+    private String pdfSha256;
 }
\ No newline at end of file
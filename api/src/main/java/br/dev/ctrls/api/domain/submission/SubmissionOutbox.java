@@ -0,0 +1,44 @@
+package br.dev.ctrls.api.domain.submission;
+
+import br.dev.ctrls.api.domain.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Entrada do outbox transacional de submissões.
+ *
+ * Gravada na mesma transação da submissão e removida apenas quando o
+ * processamento assíncrono termina. Enquanto existir, o dispatcher volta a
+ * entregá-la após o available_at (visibility timeout).
+ */
+@Getter
+@Setter
+@SuperBuilder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "submission_outbox")
+public class SubmissionOutbox extends BaseEntity {
+
+    @Column(name = "submission_id", nullable = false, unique = true)
+    private UUID submissionId;
+
+    /** Clínica dona da submissão (chave do escalonamento justo). */
+    @Column(name = "clinic_id")
+    private UUID clinicId;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+}
@@ -0,0 +1,27 @@
+package br.dev.ctrls.api.domain.submission;
+
+import br.dev.ctrls.api.domain.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Submissão rejeitada pelo executor (fila cheia) aguardando reenfileiramento.
+ */
+@Getter
+@Setter
+@SuperBuilder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "submission_spill")
+public class SubmissionSpill extends BaseEntity {
+
+    @Column(name = "submission_id", nullable = false, unique = true)
+    private UUID submissionId;
+}
@@ -5,6 +5,10 @@ package br.dev.ctrls.api.domain.submission;
  */
 public enum SubmissionStatus {
     PENDING,
+    /** Reivindicada por uma réplica (lease ativo) e em processamento. */
+    PROCESSING,
+    /** Feegow da clínica recusado localmente (circuito aberto, cota esgotada): aguarda next_attempt_at sem consumir retries. */
+    PARKED,
     PROCESSED,
     ERROR
 }
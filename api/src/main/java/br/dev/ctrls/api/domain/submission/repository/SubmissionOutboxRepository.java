@@ -0,0 +1,41 @@
+package br.dev.ctrls.api.domain.submission.repository;
+
+import br.dev.ctrls.api.domain.submission.SubmissionOutbox;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repositório do outbox de submissões.
+ */
+public interface SubmissionOutboxRepository extends JpaRepository<SubmissionOutbox, UUID> {
+
+    /**
+     * Bloqueia o próximo lote de entradas disponíveis.
+     *
+     * FOR UPDATE SKIP LOCKED permite que várias réplicas façam polling ao mesmo
+     * tempo sem disputar as mesmas linhas. Deve ser chamado dentro de transação.
+     */
+    @Query(value = "SELECT * FROM submission_outbox WHERE available_at <= :now " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<SubmissionOutbox> lockNextBatch(@Param("now") Instant now, @Param("limit") int limit);
+
+    Optional<SubmissionOutbox> findBySubmissionId(UUID submissionId);
+
+    @Query("SELECT MIN(o.createdAt) FROM SubmissionOutbox o")
+    Optional<Instant> findOldestCreatedAt();
+
+    /**
+     * Confirma o processamento removendo a entrada (ack do outbox).
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SubmissionOutbox o WHERE o.submissionId = :submissionId")
+    int deleteBySubmissionId(@Param("submissionId") UUID submissionId);
+}
@@ -2,14 +2,18 @@ package br.dev.ctrls.api.domain.submission.repository;
 
 import br.dev.ctrls.api.domain.submission.Submission;
 import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repositório de submissões com suporte a EntityGraph para evitar LazyInitializationException.
@@ -44,4 +48,146 @@ public interface SubmissionRepository extends JpaRepository<Submission, UUID> {
                                        @Param("status") SubmissionStatus status,
                                        @Param("patientName") String patientName,
                                        Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Página da exportação em lote, por keyset (created_at, id): cada consulta continua
+     * de onde a anterior parou, sem OFFSET, com custo constante em qualquer ponto do período.
+     */
+    @EntityGraph(attributePaths = {"template", "template.clinic"})
+    @Query("SELECT s FROM Submission s WHERE s.template.clinic.id = :clinicId " +
+            "AND s.createdAt >= :from AND s.createdAt < :to " +
+            "AND (:status IS NULL OR s.status = :status) " +
+            "AND (s.createdAt > :afterCreatedAt OR (s.createdAt = :afterCreatedAt AND s.id > :afterId)) " +
+            "ORDER BY s.createdAt, s.id")
+    List<Submission> findExportBatch(@Param("clinicId") UUID clinicId,
+                                     @Param("from") Instant from,
+                                     @Param("to") Instant to,
+                                     @Param("status") SubmissionStatus status,
+                                     @Param("afterCreatedAt") Instant afterCreatedAt,
+                                     @Param("afterId") UUID afterId,
+                                     Pageable pageable);
+
+    /**
+     * Último paciente Feegow já resolvido para o CPF na clínica (fallback do cache de pacientes).
+     */
+    @Query(value = "SELECT s.feegow_patient_id FROM submissions s " +
+            "JOIN form_templates t ON t.id = s.form_template_id " +
+            "WHERE t.clinic_id = :clinicId AND s.patient_cpf = :cpf AND s.feegow_patient_id IS NOT NULL " +
+            "ORDER BY s.created_at DESC LIMIT 1", nativeQuery = true)
+    Optional<String> findLatestFeegowPatientId(@Param("clinicId") UUID clinicId, @Param("cpf") String cpf);
+
+    @Query("SELECT s.template.clinic.id FROM Submission s WHERE s.id = :id")
+    Optional<UUID> findClinicIdById(@Param("id") UUID id);
+
+    @Query("SELECT s.status FROM Submission s WHERE s.id = :id")
+    Optional<SubmissionStatus> findStatusById(@Param("id") UUID id);
+
+    /**
+     * Reivindica a submissão para processamento (PENDING/PARKED → PROCESSING) de forma atômica.
+     *
+     * Só tem sucesso se ninguém detém um lease válido, ou se o lease (reserva do
+     * sweeper) pertence à própria réplica. Reentregas duplicadas (outbox, spill,
+     * sweeper) disputam este UPDATE e apenas uma vence. Submissões com retry
+     * agendado (next_attempt_at no futuro) não podem ser reivindicadas antes da hora.
+     *
+     * @return 1 se reivindicada, 0 caso contrário
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE submissions SET status = 'PROCESSING', lease_owner = :owner, lease_until = :leaseUntil, " +
+            "attempts = attempts + 1, updated_at = :now " +
+            "WHERE id = :id AND status IN ('PENDING', 'PARKED') " +
+            "AND (lease_until IS NULL OR lease_until < :now OR lease_owner = :owner) " +
+            "AND (next_attempt_at IS NULL OR next_attempt_at <= :now)", nativeQuery = true)
+    int claimLease(@Param("id") UUID id,
+                   @Param("owner") String owner,
+                   @Param("now") Instant now,
+                   @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Grava o paciente resolvido no Feegow, apenas se esta réplica ainda detém o lease.
+     *
+     * @return 1 se gravado, 0 se o lease foi perdido
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE submissions SET feegow_patient_id = :patientId, updated_at = :now " +
+            "WHERE id = :id AND status = 'PROCESSING' AND lease_owner = :owner", nativeQuery = true)
+    int recordPatient(@Param("id") UUID id,
+                      @Param("owner") String owner,
+                      @Param("patientId") String patientId,
+                      @Param("now") Instant now);
+
+    /**
+     * Registra o PDF armazenado. Não exige lease: o conteúdo vale para a submissão
+     * independentemente de quem o renderizou, e updated_at fica intacto.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE submissions SET pdf_sha256 = :sha256 WHERE id = :id", nativeQuery = true)
+    int recordPdf(@Param("id") UUID id, @Param("sha256") String sha256);
+
+    /**
+     * Finaliza o processamento (PROCESSING → PROCESSED/ERROR) e libera o lease.
+     * errorRetryable marca um ERROR temporário, que o sweeper pode recolher de novo.
+     *
+     * Condicional ao lease: se ele expirou e outra réplica assumiu a submissão,
+     * o resultado desta execução é descartado em vez de sobrescrever o da outra.
+     *
+     * @return 1 se finalizada, 0 se o lease foi perdido
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE submissions SET status = :status, last_error = :lastError, " +
+            "error_retryable = :errorRetryable, " +
+            "lease_owner = NULL, lease_until = NULL, next_attempt_at = NULL, updated_at = :now " +
+            "WHERE id = :id AND status = 'PROCESSING' AND lease_owner = :owner", nativeQuery = true)
+    int finishProcessing(@Param("id") UUID id,
+                         @Param("owner") String owner,
+                         @Param("status") String status,
+                         @Param("lastError") String lastError,
+                         @Param("errorRetryable") boolean errorRetryable,
+                         @Param("now") Instant now);
+
+    /**
+     * Devolve a submissão ao agendamento (PROCESSING → PENDING/PARKED) e libera o lease,
+     * apenas se esta réplica ainda o detém. Usado pelo retry e pelo estacionamento.
+     *
+     * @return 1 se liberada, 0 se o lease foi perdido
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE submissions SET status = :status, retry_count = :retryCount, " +
+            "next_attempt_at = :nextAttemptAt, last_error = :lastError, " +
+            "lease_owner = NULL, lease_until = NULL, updated_at = :now " +
+            "WHERE id = :id AND status = 'PROCESSING' AND lease_owner = :owner", nativeQuery = true)
+    int releaseForRetry(@Param("id") UUID id,
+                        @Param("owner") String owner,
+                        @Param("status") String status,
+                        @Param("retryCount") int retryCount,
+                        @Param("nextAttemptAt") Instant nextAttemptAt,
+                        @Param("lastError") String lastError,
+                        @Param("now") Instant now);
+
+    /**
+     * Bloqueia submissões abandonadas para o sweeper de recuperação:
+     * - PROCESSING com lease vencido (réplica caiu no meio do processamento)
+     * - PENDING/PARKED antigas sem lease válido (nunca despachadas), respeitando retries agendados
+     * - ERROR temporário (error_retryable) recolhido menos de maxErrorRecoveries vezes;
+     *   erros definitivos nunca voltam
+     *
+     * FOR UPDATE SKIP LOCKED permite várias réplicas varrendo ao mesmo tempo
+     * sem disputar (nem processar em dobro) as mesmas linhas.
+     */
+    @Query(value = "SELECT * FROM submissions WHERE " +
+            "(status = 'PROCESSING' AND lease_until < :now) " +
+            "OR (status IN ('PENDING', 'PARKED') AND created_at < :staleBefore AND (lease_until IS NULL OR lease_until < :now) " +
+            "AND (next_attempt_at IS NULL OR next_attempt_at < :staleBefore)) " +
+            "OR (status = 'ERROR' AND error_retryable AND error_recoveries < :maxErrorRecoveries AND updated_at < :retryBefore) " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Submission> lockStaleForRecovery(@Param("now") Instant now,
+                                          @Param("staleBefore") Instant staleBefore,
+                                          @Param("retryBefore") Instant retryBefore,
+                                          @Param("maxErrorRecoveries") int maxErrorRecoveries,
+                                          @Param("limit") int limit);
+}
@@ -0,0 +1,38 @@
+package br.dev.ctrls.api.domain.submission.repository;
+
+import br.dev.ctrls.api.domain.submission.SubmissionSpill;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repositório da fila de transbordo de submissões.
+ */
+public interface SubmissionSpillRepository extends JpaRepository<SubmissionSpill, UUID> {
+
+    /**
+     * Insere de forma idempotente: a mesma submissão rejeitada duas vezes ocupa uma única linha.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO submission_spill (id, submission_id, created_at, updated_at) " +
+            "VALUES (gen_random_uuid(), :submissionId, now(), now()) " +
+            "ON CONFLICT (submission_id) DO NOTHING", nativeQuery = true)
+    int spill(@Param("submissionId") UUID submissionId);
+
+    /**
+     * Bloqueia as entradas mais antigas. Deve ser chamado dentro de transação.
+     */
+    @Query(value = "SELECT * FROM submission_spill ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<SubmissionSpill> lockOldest(@Param("limit") int limit);
+
+    @Query("SELECT MIN(s.createdAt) FROM SubmissionSpill s")
+    Optional<Instant> findOldestCreatedAt();
+}
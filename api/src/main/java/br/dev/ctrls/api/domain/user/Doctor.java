@@ -1,9 +1,11 @@
 package br.dev.ctrls.api.domain.user;
 
 import br.dev.ctrls.api.domain.clinic.Clinic;
+import br.dev.ctrls.api.infrastructure.persistence.PublicFormChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
@@ -25,6 +27,7 @@ import lombok.experimental.SuperBuilder;
 @Setter
 @SuperBuilder(toBuilder = true)
 @Entity
+@EntityListeners(PublicFormChangeListener.class)
 @Table(name = "doctors")
 @DiscriminatorValue("DOCTOR")
 public class Doctor extends User {
@@ -1,5 +1,13 @@
 package br.dev.ctrls.api.infrastructure.config;
 
+import br.dev.ctrls.api.application.service.submission.SubmissionSpillStore;
+import br.dev.ctrls.api.application.service.submission.SubmissionTask;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import br.dev.ctrls.api.infrastructure.executor.PlatformSubmissionExecutor;
+import br.dev.ctrls.api.infrastructure.executor.SubmissionExecutor;
+import br.dev.ctrls.api.infrastructure.executor.VirtualThreadSubmissionExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
@@ -8,18 +16,23 @@ import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
-
 /**
  * Configuração de execução assíncrona para processamento enterprise-grade.
  *
- * Thread Pool Strategy:
+ * O executor de submissões tem dois modos (submission.executor.mode):
+ *
+ * PLATFORM (padrão) - ThreadPoolTaskExecutor:
  * - Core Pool: 5 threads sempre ativas para processar submissões
  * - Max Pool: até 10 threads em picos de demanda
  * - Queue: até 100 tarefas aguardando processamento
  *
- * Quando a fila está cheia, o RejectedExecutionHandler registra erro crítico
- * e a tarefa é descartada (considere implementar DLQ em produção).
+ * VIRTUAL - uma virtual thread por submissão:
+ * - Max Concurrency: teto de submissões simultâneas controlado por semáforo
+ * - Queue: virtual threads estacionadas aguardando permissão
+ *
+ * Em ambos os modos, quando não há capacidade, a submissão é transbordada
+ * para a fila persistente (SubmissionSpillStore), drenada pelo SubmissionSpillDrainer
+ * assim que o executor volta a ter capacidade.
  */
 @Slf4j
 @Configuration
@@ -27,23 +40,43 @@ import java.util.concurrent.Executor;
 public class AsyncConfig implements AsyncConfigurer {
 
     /**
-     * Thread pool dedicado para processamento assíncrono de submissões.
+     * Executor dedicado para processamento assíncrono de submissões.
      *
      * Configuração otimizada para ambiente de produção:
-     * - Core Pool Size: 5 threads (sempre ativas)
-     * - Max Pool Size: 10 threads (expandir sob demanda)
-     * - Queue Capacity: 100 tarefas pendentes
-     * - Keep Alive: threads extras sobrevivem 60s após ociosidade
+     * - Keep Alive: threads extras sobrevivem 60s após ociosidade (modo platform)
      * - Shutdown Gracioso: aguarda até 60s para finalizar tarefas
      */
     @Bean(name = "submissionTaskExecutor")
-    public Executor submissionTaskExecutor() {
+    public SubmissionExecutor submissionTaskExecutor(SubmissionProperties submissionProperties,
+                                                     SubmissionSpillStore spillStore,
+                                                     MeterRegistry meterRegistry) {
+        SubmissionProperties.Executor config = submissionProperties.getExecutor();
+
+        SubmissionExecutor executor = switch (config.getMode()) {
+            case VIRTUAL -> virtualThreadExecutor(config, spillStore);
+            case PLATFORM -> platformExecutor(config, spillStore);
+        };
+
+        Gauge.builder("submission.executor.active", executor, SubmissionExecutor::activeCount)
+                .description("Submissões em execução")
+                .tag("mode", config.getMode().name().toLowerCase())
+                .register(meterRegistry);
+        Gauge.builder("submission.executor.queued", executor, SubmissionExecutor::queuedCount)
+                .description("Submissões aceitas aguardando execução")
+                .tag("mode", config.getMode().name().toLowerCase())
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    private SubmissionExecutor platformExecutor(SubmissionProperties.Executor config,
+                                                SubmissionSpillStore spillStore) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // Pool configuration
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
+        executor.setCorePoolSize(config.getCorePoolSize());
+        executor.setMaxPoolSize(config.getMaxPoolSize());
+        executor.setQueueCapacity(config.getQueueCapacity());
         executor.setKeepAliveSeconds(60);
 
         // Thread naming for debugging
@@ -51,17 +84,12 @@ public class AsyncConfig implements AsyncConfigurer {
 
         // Graceful shutdown
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
+        executor.setAwaitTerminationSeconds((int) config.getAwaitTerminationSeconds());
 
-        // Handler para tarefas rejeitadas (quando queue está cheia)
+        // Handler para tarefas rejeitadas (quando queue está cheia): transbordo persistente
         executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
-            log.error("❌ [AsyncConfig] Tarefa de submissão REJEITADA! " +
-                     "Queue cheia ({}/{}). Considere aumentar capacidade ou implementar DLQ.",
-                     threadPoolExecutor.getQueue().size(),
-                     threadPoolExecutor.getQueue().remainingCapacity());
-
-            // Em produção: enviar para Dead Letter Queue (DLQ) aqui
-            // Exemplo: dlqService.send(runnable);
+            log.warn("⚠️ [AsyncConfig] Queue cheia ({} tarefas)", threadPoolExecutor.getQueue().size());
+            spillOrDiscard(runnable, spillStore);
         });
 
         executor.initialize();
@@ -71,7 +99,34 @@ public class AsyncConfig implements AsyncConfigurer {
                 executor.getMaxPoolSize(),
                 executor.getQueueCapacity());
 
-        return executor;
+        return new PlatformSubmissionExecutor(executor);
+    }
+
+    private SubmissionExecutor virtualThreadExecutor(SubmissionProperties.Executor config,
+                                                     SubmissionSpillStore spillStore) {
+        log.info("✅ [AsyncConfig] Virtual threads configuradas: maxConcurrency={}, queue={}",
+                config.getMaxConcurrency(),
+                config.getQueueCapacity());
+
+        return new VirtualThreadSubmissionExecutor(
+                "submission-vt-",
+                config.getMaxConcurrency(),
+                config.getQueueCapacity(),
+                config.getAwaitTerminationSeconds(),
+                runnable -> {
+                    log.warn("⚠️ [AsyncConfig] Limite de virtual threads atingido ({})", config.getMaxConcurrency());
+                    spillOrDiscard(runnable, spillStore);
+                });
+    }
+
+    private void spillOrDiscard(Runnable runnable, SubmissionSpillStore spillStore) {
+        if (runnable instanceof SubmissionTask task) {
+            spillStore.spill(task.submissionId());
+            task.rejected();
+            return;
+        }
+
+        log.error("❌ [AsyncConfig] Tarefa REJEITADA e descartada (não é uma SubmissionTask)");
     }
 
     /**
@@ -0,0 +1,110 @@
+package br.dev.ctrls.api.infrastructure.config;
+
+import br.dev.ctrls.api.infrastructure.config.props.IntegrationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cliente HTTP com pool keep-alive para o FeegowClient (Apache HttpClient 5).
+ *
+ * Substitui o HttpURLConnection padrão do Feign (sem pool configurável nem métricas).
+ * O FeegowClientConfig usa este cliente no modo HTTP_1_1 ou o JDK HttpClient no modo HTTP_2.
+ *
+ * Timeouts de conexão e leitura continuam vindo de spring.cloud.openfeign.client.config.*;
+ * aqui ficam o pool, o keep-alive e a espera por conexão livre.
+ *
+ * Métricas:
+ * - httpcomponents.httpclient.pool.* (tag httpclient=feegow): conexões leased/available,
+ *   pending (requisições aguardando conexão) e máximos do pool
+ * - feegow.http.requests / feegow.http.connections.created: reuso = 1 - created/requests
+ */
+@Slf4j
+@Configuration
+public class FeegowHttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager feegowConnectionManager(IntegrationProperties integrationProperties,
+                                                                      MeterRegistry meterRegistry) {
+        IntegrationProperties.Http http = integrationProperties.getFeegow().getHttp();
+
+        Counter created = Counter.builder("feegow.http.connections.created")
+                .description("Conexões TCP/TLS abertas com o Feegow (baixo = bom reuso)")
+                .register(meterRegistry);
+        HttpConnectionFactory<ManagedHttpClientConnection> connectionFactory = new HttpConnectionFactory<>() {
+            @Override
+            public ManagedHttpClientConnection createConnection(java.net.Socket socket) throws java.io.IOException {
+                created.increment();
+                return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(socket);
+            }
+
+            @Override
+            public ManagedHttpClientConnection createConnection(javax.net.ssl.SSLSocket sslSocket,
+                                                                java.net.Socket socket) throws java.io.IOException {
+                created.increment();
+                return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(sslSocket, socket);
+            }
+        };
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                // LIFO: reaproveita as conexões mais quentes e deixa as frias expirarem
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setConnectionFactory(connectionFactory)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.ofSeconds(http.getTimeToLiveSeconds()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "feegow").bindTo(meterRegistry);
+
+        log.info("✅ [FeegowHttpClient] Pool configurado: max={}, porRota={}, versão={}",
+                http.getMaxConnections(), http.getMaxConnectionsPerRoute(), http.getVersion());
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient feegowHttpClient(PoolingHttpClientConnectionManager feegowConnectionManager,
+                                                IntegrationProperties integrationProperties,
+                                                MeterRegistry meterRegistry) {
+        IntegrationProperties.Http http = integrationProperties.getFeegow().getHttp();
+
+        Counter requests = Counter.builder("feegow.http.requests")
+                .description("Requisições HTTP enviadas ao Feegow")
+                .register(meterRegistry);
+
+        HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(feegowConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(http.getConnectionRequestTimeoutMs()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(http.getKeepAliveSeconds()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(http.getIdleEvictSeconds(), TimeUnit.SECONDS))
+                .addRequestInterceptorLast((request, entity, context) -> requests.increment());
+
+        // gzip: o HttpClient 5 envia Accept-Encoding e descompacta a resposta de forma transparente
+        if (!http.isGzip()) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+}
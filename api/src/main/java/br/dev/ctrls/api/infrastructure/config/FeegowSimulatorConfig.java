@@ -0,0 +1,26 @@
+package br.dev.ctrls.api.infrastructure.config;
+
+import br.dev.ctrls.api.client.feegow.simulator.FeegowSimulator;
+import br.dev.ctrls.api.infrastructure.config.props.FeegowSimulatorProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Sobe o simulador do Feegow junto com a aplicação no perfil loadtest.
+ *
+ * application-loadtest.properties aponta integration.feegow.base-url para ele,
+ * então o pipeline inteiro (Feign, pool HTTP, limiter, circuito) roda de verdade
+ * contra um Feegow com latência e falhas controladas.
+ */
+@Configuration
+@Profile("loadtest")
+@EnableConfigurationProperties(FeegowSimulatorProperties.class)
+public class FeegowSimulatorConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public FeegowSimulator feegowSimulator(FeegowSimulatorProperties properties) {
+        return new FeegowSimulator(properties);
+    }
+}
@@ -0,0 +1,30 @@
+package br.dev.ctrls.api.infrastructure.config;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.RedisClient;
+import java.time.Duration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * Buckets de rate limit (bucket4j) com estado no Redis, compartilhados entre réplicas.
+ *
+ * Reaproveita o cliente Lettuce do Spring Data Redis (mesmo host, TLS e credenciais).
+ * As chaves expiram quando o bucket estaria cheio de novo: buckets ociosos não acumulam no Redis.
+ */
+@Configuration
+public class RedisBucketConfig {
+
+    @Bean
+    public ProxyManager<byte[]> redisBucketProxyManager(LettuceConnectionFactory connectionFactory) {
+        RedisClient redisClient = (RedisClient) connectionFactory.getRequiredNativeClient();
+        return LettuceBasedProxyManager.builderFor(redisClient)
+                .withClientSideConfig(ClientSideConfig.getDefault().withExpirationAfterWriteStrategy(
+                        ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofSeconds(10))))
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package br.dev.ctrls.api.infrastructure.config;
 
+import br.dev.ctrls.api.application.service.form.PublicFormCache;
 import java.time.Duration;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -8,9 +9,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
- * Configura o cache Redis com TTL padrão.
+ * Configura o cache Redis com TTL padrão e o pub/sub de invalidação dos near caches.
  */
 @Configuration
 public class RedisCacheConfig {
@@ -25,5 +28,14 @@ public class RedisCacheConfig {
                 .cacheDefaults(cacheConfiguration)
                 .build();
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       PublicFormCache publicFormCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(publicFormCache, new ChannelTopic(PublicFormCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
 
@@ -0,0 +1,12 @@
+package br.dev.ctrls.api.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas agendadas (polling do outbox, varreduras de recuperação).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,61 @@
+package br.dev.ctrls.api.infrastructure.config;
+
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import br.dev.ctrls.api.infrastructure.executor.MemoryBudget;
+import br.dev.ctrls.api.infrastructure.executor.PipelineStage;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Executores dos estágios do pipeline de submissões.
+ *
+ * Estágios:
+ * 1. resolve - paciente no Feegow (I/O) → submissionTaskExecutor (AsyncConfig)
+ * 2. render  - geração do PDF (CPU)     → threads = processadores disponíveis
+ * 3. upload  - envio ao Feegow (I/O)    → mais threads, fila média
+ * 4. commit  - status + ack do outbox   → poucas threads
+ *
+ * Filas de hand-off limitadas e bloqueantes: um estágio lento segura o anterior
+ * (backpressure) em vez de acumular PDFs em memória.
+ *
+ * Dentro do render, o renderMemoryBudget limita os renders simultâneos pela memória
+ * estimada de cada documento: poucos formulários grandes não estouram o heap.
+ */
+@Configuration
+public class SubmissionPipelineConfig {
+
+    @Bean
+    public PipelineStage renderStage(SubmissionProperties submissionProperties, MeterRegistry meterRegistry) {
+        SubmissionProperties.Stage config = submissionProperties.getPipeline().getRender();
+        int threads = config.getThreads() > 0 ? config.getThreads() : Runtime.getRuntime().availableProcessors();
+        return stage("render", threads, config, submissionProperties, meterRegistry);
+    }
+
+    @Bean
+    public MemoryBudget renderMemoryBudget(SubmissionProperties submissionProperties, MeterRegistry meterRegistry) {
+        long budgetBytes = submissionProperties.getPipeline().getRenderMemory().getBudgetMb() * 1024 * 1024;
+        return new MemoryBudget("render", budgetBytes, meterRegistry);
+    }
+
+    @Bean
+    public PipelineStage uploadStage(SubmissionProperties submissionProperties, MeterRegistry meterRegistry) {
+        SubmissionProperties.Stage config = submissionProperties.getPipeline().getUpload();
+        return stage("upload", config.getThreads(), config, submissionProperties, meterRegistry);
+    }
+
+    @Bean
+    public PipelineStage commitStage(SubmissionProperties submissionProperties, MeterRegistry meterRegistry) {
+        SubmissionProperties.Stage config = submissionProperties.getPipeline().getCommit();
+        return stage("commit", config.getThreads(), config, submissionProperties, meterRegistry);
+    }
+
+    private PipelineStage stage(String name,
+                                int threads,
+                                SubmissionProperties.Stage config,
+                                SubmissionProperties submissionProperties,
+                                MeterRegistry meterRegistry) {
+        return new PipelineStage(name, threads, config.getQueueCapacity(),
+                submissionProperties.getExecutor().getAwaitTerminationSeconds(), meterRegistry);
+    }
+}
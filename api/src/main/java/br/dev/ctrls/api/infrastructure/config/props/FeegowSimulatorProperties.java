@@ -0,0 +1,66 @@
+package br.dev.ctrls.api.infrastructure.config.props;
+
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações do simulador do Feegow (perfil loadtest e testes de carga).
+ */
+@Data
+@ConfigurationProperties(prefix = "feegow.simulator")
+public class FeegowSimulatorProperties {
+
+    /** Porta HTTP do simulador (0 = porta livre aleatória). */
+    private int port = 0;
+
+    /** Threads atendendo requisições (a latência simulada ocupa a thread, como no servidor real). */
+    private int threads = 200;
+
+    // Mapeia "feegow.simulator.list"
+    private final Latency list = new Latency();
+
+    // Mapeia "feegow.simulator.create"
+    private final Latency create = new Latency();
+
+    // Mapeia "feegow.simulator.upload"
+    private final Latency upload = new Latency();
+
+    // Mapeia "feegow.simulator.faults"
+    private final Faults faults = new Faults();
+
+    @Data
+    public static class Latency {
+        private Distribution distribution = Distribution.FIXED;
+        /** Mediana (FIXED usa só este valor). */
+        private long medianMs = 0;
+        /** P99 da distribuição LOG_NORMAL; limite superior da UNIFORM. */
+        private long p99Ms = 0;
+    }
+
+    public enum Distribution {
+        /** Sempre a mediana. */
+        FIXED,
+        /** Uniforme entre 0 e p99. */
+        UNIFORM,
+        /** Log-normal com a mediana e o p99 informados (cauda longa, como um servidor real). */
+        LOG_NORMAL
+    }
+
+    @Data
+    public static class Faults {
+        /** Fração das requisições respondidas com 401 (token inválido). */
+        private double unauthorizedRate = 0.0;
+        /** Fração dos uploads respondidos com 413. */
+        private double payloadTooLargeRate = 0.0;
+        /** Fração das requisições respondidas com 503. */
+        private double unavailableRate = 0.0;
+        /** Tokens sempre recusados com 401 (simula credencial revogada de uma clínica). */
+        private Set<String> revokedTokens = new HashSet<>();
+        /** Requisições/s aceitas por token; o excedente recebe 429 (0 = sem throttling). */
+        private int maxRequestsPerSecond = 0;
+        /** Uploads maiores que isto recebem 413 (0 = sem limite). */
+        private long maxUploadBytes = 0;
+    }
+}
@@ -16,6 +16,9 @@ public class IntegrationProperties {
 
     public static class Feegow {
         private String baseUrl;
+        private final Concurrency concurrency = new Concurrency();
+        private final Http http = new Http();
+        private final Quota quota = new Quota();
 
         public String getBaseUrl() {
             return baseUrl;
@@ -24,6 +27,218 @@ public class IntegrationProperties {
         public void setBaseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
         }
+
+        public Concurrency getConcurrency() {
+            return concurrency;
+        }
+
+        public Http getHttp() {
+            return http;
+        }
+
+        public Quota getQuota() {
+            return quota;
+        }
     }
-}
 
+    /**
+     * Cliente HTTP do FeegowClient (pool keep-alive).
+     */
+    public static class Http {
+        /** HTTP_1_1 = Apache HttpClient 5 com pool; HTTP_2 = JDK HttpClient multiplexado. */
+        private Version version = Version.HTTP_1_1;
+        private int maxConnections = 50;
+        private int maxConnectionsPerRoute = 20;
+        /** Espera máxima por uma conexão livre no pool. */
+        private long connectionRequestTimeoutMs = 2000;
+        private long keepAliveSeconds = 30;
+        private long idleEvictSeconds = 30;
+        private long timeToLiveSeconds = 300;
+        private boolean gzip = true;
+
+        public enum Version {
+            HTTP_1_1,
+            HTTP_2
+        }
+
+        public Version getVersion() {
+            return version;
+        }
+
+        public void setVersion(Version version) {
+            this.version = version;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public long getConnectionRequestTimeoutMs() {
+            return connectionRequestTimeoutMs;
+        }
+
+        public void setConnectionRequestTimeoutMs(long connectionRequestTimeoutMs) {
+            this.connectionRequestTimeoutMs = connectionRequestTimeoutMs;
+        }
+
+        public long getKeepAliveSeconds() {
+            return keepAliveSeconds;
+        }
+
+        public void setKeepAliveSeconds(long keepAliveSeconds) {
+            this.keepAliveSeconds = keepAliveSeconds;
+        }
+
+        public long getIdleEvictSeconds() {
+            return idleEvictSeconds;
+        }
+
+        public void setIdleEvictSeconds(long idleEvictSeconds) {
+            this.idleEvictSeconds = idleEvictSeconds;
+        }
+
+        public long getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(long timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+
+        public boolean isGzip() {
+            return gzip;
+        }
+
+        public void setGzip(boolean gzip) {
+            this.gzip = gzip;
+        }
+    }
+
+    /**
+     * Limite adaptativo (AIMD) de chamadas simultâneas ao Feegow por clínica.
+     */
+    public static class Concurrency {
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 50;
+        private double backoffRatio = 0.7;
+        /** Latência acima disso conta como sinal de sobrecarga. */
+        private long latencyThresholdMs = 3000;
+        /** Tempo máximo aguardando vaga antes de recusar a chamada. */
+        private long maxWaitMs = 2000;
+        private int maxQueued = 50;
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        public long getLatencyThresholdMs() {
+            return latencyThresholdMs;
+        }
+
+        public void setLatencyThresholdMs(long latencyThresholdMs) {
+            this.latencyThresholdMs = latencyThresholdMs;
+        }
+
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        public void setMaxWaitMs(long maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        public int getMaxQueued() {
+            return maxQueued;
+        }
+
+        public void setMaxQueued(int maxQueued) {
+            this.maxQueued = maxQueued;
+        }
+    }
+
+    /**
+     * Cota de saída por token do Feegow, compartilhada entre réplicas (bucket no Redis).
+     */
+    public static class Quota {
+        private boolean enabled = true;
+        /** Requisições por segundo repostas no bucket. */
+        private int requestsPerSecond = 5;
+        /** Rajada máxima (capacidade do bucket). */
+        private int burst = 10;
+        /** Espera máxima por um token antes de devolver a submissão à fila. */
+        private long maxWaitMs = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(int requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        public void setMaxWaitMs(long maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.dev.ctrls.api.infrastructure.config.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações do armazenamento de PDFs gerados.
+ */
+@Data
+@ConfigurationProperties(prefix = "storage.pdf")
+public class PdfStorageProperties {
+
+    /**
+     * Diretório raiz dos PDFs (endereçados pelo SHA-256 do conteúdo).
+     * Com várias réplicas, apontar para um volume compartilhado; sem ele, a réplica
+     * que não tem o arquivo renderiza de novo.
+     */
+    private String directory = "data/pdfs";
+}
@@ -0,0 +1,36 @@
+package br.dev.ctrls.api.infrastructure.config.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "public-form")
+public class PublicFormProperties {
+
+    // Mapeia "public-form.cache"
+    private final Cache cache = new Cache();
+
+    // Mapeia "public-form.http"
+    private final Http http = new Http();
+
+    @Data
+    public static class Cache {
+        /** Formulários mantidos no near cache de cada réplica (LRU). */
+        private long localMaxSize = 1000;
+        /** Teto de permanência local, caso uma invalidação via pub/sub se perca. */
+        private long localTtlSeconds = 300;
+        private long redisTtlSeconds = 3600;
+        /** Janela após uma invalidação em que carregamentos em andamento não regravam o Redis. */
+        private long evictionTombstoneSeconds = 30;
+    }
+
+    @Data
+    public static class Http {
+        /** Cache-Control max-age: navegador do paciente reutiliza sem revalidar. */
+        private long maxAgeSeconds = 60;
+        /** Cache-Control s-maxage: CDN/NGINX servem sem consultar a API (teto de atraso após uma edição). */
+        private long sharedMaxAgeSeconds = 300;
+        /** Cache-Control stale-while-revalidate: resposta antiga servida enquanto o edge revalida (304). */
+        private long staleWhileRevalidateSeconds = 60;
+    }
+}
@@ -12,8 +12,23 @@ public class RateLimiterProperties {
 
     @Data
     public static class PublicApi {
-        private Integer bucketCapacity;
-        private Integer refillTokens;
-        private Integer refillSeconds;
+        private boolean enabled = true;
+
+        // Limite por IP do cliente
+        private Integer bucketCapacity = 30;
+        private Integer refillTokens = 30;
+        private Integer refillSeconds = 60;
+
+        // Limite por formulário (publicUuid): protege um link vazado de scrapers distribuídos
+        private Integer formBucketCapacity = 300;
+        private Integer formRefillTokens = 300;
+        private Integer formRefillSeconds = 60;
+
+        /** Tokens consumidos localmente antes de sincronizar o bucket com o Redis. */
+        private Integer syncThresholdTokens = 5;
+        /** Intervalo máximo sem sincronizar com o Redis. */
+        private Long syncMaxDelayMs = 1000L;
+        /** Buckets mantidos em memória (IPs e formulários ativos). */
+        private Integer localBuckets = 10_000;
     }
-}
\ No newline at end of file
+}
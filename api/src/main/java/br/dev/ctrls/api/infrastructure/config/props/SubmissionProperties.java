@@ -0,0 +1,190 @@
+package br.dev.ctrls.api.infrastructure.config.props;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações do pipeline assíncrono de submissões.
+ */
+@Data
+@ConfigurationProperties(prefix = "submission")
+public class SubmissionProperties {
+
+    // Mapeia "submission.executor"
+    private final Executor executor = new Executor();
+
+    // Mapeia "submission.fairness"
+    private final Fairness fairness = new Fairness();
+
+    // Mapeia "submission.pipeline"
+    private final Pipeline pipeline = new Pipeline();
+
+    // Mapeia "submission.recovery"
+    private final Recovery recovery = new Recovery();
+
+    // Mapeia "submission.outbox"
+    private final Outbox outbox = new Outbox();
+
+    // Mapeia "submission.spill"
+    private final Spill spill = new Spill();
+
+    // Mapeia "submission.retry"
+    private final Retry retry = new Retry();
+
+    // Mapeia "submission.patient-cache"
+    private final PatientCache patientCache = new PatientCache();
+
+    // Mapeia "submission.export"
+    private final Export export = new Export();
+
+    @Data
+    public static class Executor {
+        /** platform = ThreadPoolTaskExecutor; virtual = uma virtual thread por submissão. */
+        private Mode mode = Mode.PLATFORM;
+        private int corePoolSize = 5;
+        private int maxPoolSize = 10;
+        private int queueCapacity = 100;
+        /** Teto de submissões simultâneas no modo virtual (substitui core/max). */
+        private int maxConcurrency = 50;
+        private long awaitTerminationSeconds = 60;
+
+        public enum Mode {
+            PLATFORM,
+            VIRTUAL
+        }
+    }
+
+    /**
+     * Escalonamento justo por clínica na frente do submission.executor.
+     */
+    @Data
+    public static class Fairness {
+        /** Teto de submissões aguardando no escalonador (todas as clínicas). */
+        private int maxQueued = 1000;
+        /** Fila interna do executor mantida pelo escalonador (baixo preserva a ordem justa). */
+        private int executorPrefetch = 2;
+        private long idleWaitMs = 50;
+        private int defaultWeight = 1;
+        private int defaultMaxQueued = 500;
+        /** 0 = sem teto de execução simultânea por clínica. */
+        private int defaultMaxInFlight = 0;
+        /** Sobrescritas por clínica, indexadas pelo UUID da clínica. */
+        private final Map<String, ClinicShare> clinics = new HashMap<>();
+    }
+
+    @Data
+    public static class ClinicShare {
+        private int weight;
+        private int maxQueued;
+        private int maxInFlight;
+    }
+
+    /**
+     * Estágios após a resolução do paciente (que roda no próprio submission.executor).
+     */
+    @Data
+    public static class Pipeline {
+        /** CPU-bound: threads = 0 usa o número de processadores disponíveis. */
+        private final Stage render = new Stage(0, 20);
+        private final Stage upload = new Stage(10, 50);
+        private final Stage commit = new Stage(2, 100);
+        /** Orçamento de memória dos renders simultâneos. */
+        private final RenderMemory renderMemory = new RenderMemory();
+    }
+
+    /**
+     * Estimativa de heap por render: base-kb + bytes-per-answer-char x tamanho do answersJson
+     * (árvore JSON, objetos do OpenPDF e buffer do PDF).
+     */
+    @Data
+    public static class RenderMemory {
+        private long budgetMb = 256;
+        private long baseKb = 256;
+        private int bytesPerAnswerChar = 16;
+
+        public long estimateBytes(String answersJson) {
+            int length = answersJson != null ? answersJson.length() : 0;
+            return baseKb * 1024 + (long) length * bytesPerAnswerChar;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stage {
+        private int threads;
+        private int queueCapacity;
+    }
+
+    @Data
+    public static class Recovery {
+        private long sweepIntervalMs = 30000;
+        private int batchSize = 50;
+        /** Duração do lease de processamento (deve cobrir o pior caso com retries). */
+        private long leaseSeconds = 600;
+        /** PENDING mais antigas que isso sem lease válido são consideradas abandonadas. */
+        private long staleAfterSeconds = 600;
+        /** Intervalo mínimo antes de reprocessar uma submissão em ERROR temporário (error_retryable). */
+        private long errorRetryAfterSeconds = 300;
+        /** Quantas vezes um ERROR temporário volta a ser recolhido (contado em error_recoveries). */
+        private int maxErrorRecoveries = 3;
+        /** Reserva entre a varredura e o início do processamento nesta réplica. */
+        private long reservationSeconds = 120;
+    }
+
+    @Data
+    public static class Outbox {
+        private long pollIntervalMs = 500;
+        private int batchSize = 50;
+        private long visibilityTimeoutSeconds = 300;
+    }
+
+    @Data
+    public static class Spill {
+        private long drainIntervalMs = 1000;
+        private int drainBatchSize = 50;
+    }
+
+    /**
+     * Retry não bloqueante de falhas temporárias no Feegow (backoff exponencial com jitter).
+     */
+    @Data
+    public static class Retry {
+        private int maxRetries = 5;
+        private long initialDelayMs = 2000;
+        private double multiplier = 2.0;
+        private long maxDelayMs = 300000;
+    }
+
+    /**
+     * Cache CPF → paciente Feegow: near cache local + Redis, com a tabela submissions como fallback.
+     */
+    @Data
+    public static class PatientCache {
+        private long localMaxSize = 10000;
+        private long localTtlSeconds = 3600;
+        private long redisTtlSeconds = 604800;
+        /** Lock Redis por (clínica, CPF) enquanto um nó consulta/cria o paciente. */
+        private long lockTtlMs = 10000;
+        /** Espera máxima pelo resultado de outro nó antes de reagendar a submissão. */
+        private long lockWaitMs = 3000;
+        private long lockPollMs = 100;
+        /** Segredo do HMAC que deriva a chave a partir do CPF; sem ele a chave não é reversível. */
+        private String keySecret;
+    }
+
+    /**
+     * Exportação em lote (ZIP) dos PDFs para o dashboard.
+     */
+    @Data
+    public static class Export {
+        /** Renders simultâneos por exportação; 0 = número de processadores. */
+        private int parallelism = 0;
+        /** Submissões lidas do banco por consulta (keyset). */
+        private int batchSize = 50;
+    }
+}
@@ -0,0 +1,92 @@
+package br.dev.ctrls.api.infrastructure.executor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admissão ponderada por memória: tarefas declaram quanto heap estimam usar e só
+ * executam enquanto a soma das estimativas em andamento couber no orçamento.
+ *
+ * Semáforo justo com uma permissão por KiB. Um documento maior que o orçamento
+ * inteiro é admitido sozinho (peso limitado ao orçamento) em vez de travar para sempre.
+ * Por ser FIFO, um documento grande aguardando segura os pequenos que chegam depois -
+ * ele não morre de fome.
+ *
+ * Métricas (tag budget):
+ * - submission.memory.admission.wait: tempo aguardando orçamento (histograma)
+ * - submission.memory.in-use: bytes estimados em uso
+ */
+@Slf4j
+public class MemoryBudget {
+
+    private static final long KIB = 1024;
+
+    private final String name;
+    private final int totalKib;
+    private final Semaphore permits;
+    private final Timer waitTimer;
+
+    public MemoryBudget(String name, long budgetBytes, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.totalKib = (int) Math.min(Integer.MAX_VALUE, Math.max(1, budgetBytes / KIB));
+        this.permits = new Semaphore(totalKib, true);
+
+        this.waitTimer = Timer.builder("submission.memory.admission.wait")
+                .description("Tempo aguardando orçamento de memória")
+                .tag("budget", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("submission.memory.in-use", this, MemoryBudget::inUseBytes)
+                .description("Memória estimada das tarefas em execução")
+                .tag("budget", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("✅ [MemoryBudget] Orçamento '{}' configurado: {} MiB", name, totalKib / KIB);
+    }
+
+    /**
+     * Executa a tarefa quando houver orçamento para o peso estimado, bloqueando até lá.
+     *
+     * A espera não é interrompível: quem segura o orçamento são tarefas já em execução,
+     * que sempre terminam e devolvem as permissões.
+     */
+    public <T> T call(long estimatedBytes, Supplier<T> task) {
+        int weight = weight(estimatedBytes);
+
+        long start = System.nanoTime();
+        permits.acquireUninterruptibly(weight);
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        try {
+            return task.get();
+        } finally {
+            permits.release(weight);
+        }
+    }
+
+    public void run(long estimatedBytes, Runnable task) {
+        call(estimatedBytes, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public long inUseBytes() {
+        return (totalKib - (long) permits.availablePermits()) * KIB;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    int weight(long estimatedBytes) {
+        long kib = (Math.max(0, estimatedBytes) + KIB - 1) / KIB;
+        return (int) Math.max(1, Math.min(totalKib, kib));
+    }
+}
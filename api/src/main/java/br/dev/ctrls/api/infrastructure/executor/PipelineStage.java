@@ -0,0 +1,110 @@
+package br.dev.ctrls.api.infrastructure.executor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Estágio do pipeline de submissões com executor próprio e fila de hand-off limitada.
+ *
+ * BACKPRESSURE: {@link #submit(Runnable)} bloqueia o chamador (o worker do estágio
+ * anterior) enquanto a fila estiver cheia. O estágio anterior desacelera, sua fila
+ * enche e a pressão chega até a entrada do pipeline, que transborda para o spill.
+ *
+ * Métricas (tag stage):
+ * - submission.stage.queue: itens aguardando na fila
+ * - submission.stage.active: itens em execução
+ * - submission.stage.wait: tempo na fila (histograma)
+ * - submission.stage.service: tempo de execução (histograma)
+ */
+@Slf4j
+public class PipelineStage implements DisposableBean {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<Runnable> queue;
+    private final Timer waitTimer;
+    private final Timer serviceTimer;
+    private final long awaitTerminationSeconds;
+
+    public PipelineStage(String name,
+                         int threads,
+                         int queueCapacity,
+                         long awaitTerminationSeconds,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+                runnable -> new Thread(runnable, "submission-" + name + "-" + threadCount.incrementAndGet()));
+        // Threads pré-iniciadas: o hand-off é feito direto na fila (put bloqueante)
+        this.executor.prestartAllCoreThreads();
+
+        this.waitTimer = Timer.builder("submission.stage.wait")
+                .description("Tempo aguardando na fila do estágio")
+                .tag("stage", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.serviceTimer = Timer.builder("submission.stage.service")
+                .description("Tempo de execução do estágio")
+                .tag("stage", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("submission.stage.queue", queue, BlockingQueue::size)
+                .description("Itens aguardando na fila do estágio")
+                .tag("stage", name)
+                .register(meterRegistry);
+        Gauge.builder("submission.stage.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Itens em execução no estágio")
+                .tag("stage", name)
+                .register(meterRegistry);
+
+        log.info("✅ [PipelineStage] Estágio '{}' configurado: threads={}, queue={}", name, threads, queueCapacity);
+    }
+
+    /**
+     * Entrega uma tarefa ao estágio, bloqueando enquanto a fila estiver cheia.
+     *
+     * @throws RejectedExecutionException se o estágio estiver encerrando
+     * @throws InterruptedException se o chamador for interrompido aguardando vaga
+     */
+    public void submit(Runnable task) throws InterruptedException {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Estágio '" + name + "' encerrado");
+        }
+
+        long enqueuedAt = System.nanoTime();
+        queue.put(() -> {
+            waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            serviceTimer.record(task);
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS)) {
+            log.warn("Timeout encerrando estágio '{}'; {} item(ns) na fila serão reentregues pelo outbox",
+                    name, queue.size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.dev.ctrls.api.infrastructure.executor;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Modo "platform": delega para um ThreadPoolTaskExecutor tradicional.
+ */
+public class PlatformSubmissionExecutor implements SubmissionExecutor, DisposableBean {
+
+    private final ThreadPoolTaskExecutor delegate;
+
+    public PlatformSubmissionExecutor(ThreadPoolTaskExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(task);
+    }
+
+    @Override
+    public int availableCapacity() {
+        return delegate.getThreadPoolExecutor().getQueue().remainingCapacity();
+    }
+
+    @Override
+    public int activeCount() {
+        return delegate.getActiveCount();
+    }
+
+    @Override
+    public int queuedCount() {
+        return delegate.getThreadPoolExecutor().getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+}
@@ -0,0 +1,30 @@
+package br.dev.ctrls.api.infrastructure.executor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor do pipeline de submissões com visibilidade de capacidade.
+ *
+ * Implementações:
+ * - {@link PlatformSubmissionExecutor}: ThreadPoolTaskExecutor (core/max/queue)
+ * - {@link VirtualThreadSubmissionExecutor}: uma virtual thread por submissão com teto por semáforo
+ *
+ * Tarefas que não cabem são entregues ao handler de rejeição configurado (transbordo).
+ */
+public interface SubmissionExecutor extends Executor {
+
+    /**
+     * Vagas livres para novas tarefas sem rejeição.
+     */
+    int availableCapacity();
+
+    /**
+     * Tarefas em execução neste momento.
+     */
+    int activeCount();
+
+    /**
+     * Tarefas aceitas aguardando execução.
+     */
+    int queuedCount();
+}
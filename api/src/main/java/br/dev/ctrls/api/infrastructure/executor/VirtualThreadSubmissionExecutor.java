@@ -0,0 +1,101 @@
+package br.dev.ctrls.api.infrastructure.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Modo "virtual": cada submissão roda em sua própria virtual thread.
+ *
+ * O dimensionamento core/max/queue é substituído por dois semáforos:
+ * - running: teto de submissões executando ao mesmo tempo (maxConcurrency)
+ * - admission: running + aguardando permissão (maxConcurrency + queueCapacity)
+ *
+ * Virtual threads bloqueadas em I/O (Feign, sleeps de retry) não prendem threads
+ * de plataforma. Quando a admissão está esgotada, a tarefa vai para o handler de rejeição.
+ */
+@Slf4j
+public class VirtualThreadSubmissionExecutor implements SubmissionExecutor, DisposableBean {
+
+    private final ExecutorService delegate;
+    private final Semaphore running;
+    private final Semaphore admission;
+    private final int maxConcurrency;
+    private final int maxAdmitted;
+    private final Consumer<Runnable> rejectionHandler;
+    private final long awaitTerminationSeconds;
+
+    public VirtualThreadSubmissionExecutor(String threadNamePrefix,
+                                           int maxConcurrency,
+                                           int queueCapacity,
+                                           long awaitTerminationSeconds,
+                                           Consumer<Runnable> rejectionHandler) {
+        this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        this.maxConcurrency = maxConcurrency;
+        this.maxAdmitted = maxConcurrency + queueCapacity;
+        this.running = new Semaphore(maxConcurrency);
+        this.admission = new Semaphore(maxAdmitted);
+        this.rejectionHandler = rejectionHandler;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!admission.tryAcquire()) {
+            rejectionHandler.accept(task);
+            return;
+        }
+
+        try {
+            delegate.execute(() -> runWithPermit(task));
+        } catch (RejectedExecutionException ex) {
+            admission.release();
+            rejectionHandler.accept(task);
+        }
+    }
+
+    private void runWithPermit(Runnable task) {
+        try {
+            running.acquire();
+            try {
+                task.run();
+            } finally {
+                running.release();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Virtual thread interrompida aguardando permissão de execução");
+        } finally {
+            admission.release();
+        }
+    }
+
+    @Override
+    public int availableCapacity() {
+        return admission.availablePermits();
+    }
+
+    @Override
+    public int activeCount() {
+        return maxConcurrency - running.availablePermits();
+    }
+
+    @Override
+    public int queuedCount() {
+        return Math.max(0, maxAdmitted - admission.availablePermits() - activeCount());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        delegate.shutdown();
+        if (!delegate.awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS)) {
+            log.warn("Timeout aguardando submissões em virtual threads; {} ainda ativas", activeCount());
+            delegate.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package br.dev.ctrls.api.infrastructure.persistence;
+
+import br.dev.ctrls.api.application.service.form.PublicFormChangedEvent;
+import br.dev.ctrls.api.domain.clinic.Clinic;
+import br.dev.ctrls.api.domain.form.FormTemplate;
+import br.dev.ctrls.api.domain.user.Doctor;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener de FormTemplate, Clinic e Doctor: publica PublicFormChangedEvent
+ * quando algo exibido no formulário público é alterado ou removido.
+ *
+ * O evento é publicado durante o flush; o PublicFormCache só invalida após o commit.
+ * Mesmo padrão de injeção estática do EncryptedStringConverter (instanciado pelo Hibernate).
+ */
+@Component
+public class PublicFormChangeListener {
+
+    private static ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public void setEventPublisher(ApplicationEventPublisher eventPublisher) {
+        PublicFormChangeListener.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        if (eventPublisher == null) {
+            return;
+        }
+        if (entity instanceof FormTemplate template) {
+            publish(PublicFormChangedEvent.Scope.TEMPLATE, template.getPublicUuid());
+        } else if (entity instanceof Clinic clinic) {
+            publish(PublicFormChangedEvent.Scope.CLINIC, clinic.getId());
+        } else if (entity instanceof Doctor doctor) {
+            publish(PublicFormChangedEvent.Scope.DOCTOR, doctor.getId());
+        }
+    }
+
+    private static void publish(PublicFormChangedEvent.Scope scope, UUID id) {
+        eventPublisher.publishEvent(new PublicFormChangedEvent(scope, id));
+    }
+}
@@ -0,0 +1,160 @@
+package br.dev.ctrls.api.infrastructure.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de concorrência adaptativo (AIMD - Additive Increase, Multiplicative Decrease).
+ *
+ * - Sucesso com latência abaixo do limiar e limite em uso: limite += 1/limite
+ *   (cresce ~1 por "janela" de limite chamadas)
+ * - Sobrecarga (429/503/timeout) ou latência acima do limiar: limite *= backoffRatio
+ * - Erros sem relação com carga (400/401...) não alteram o limite
+ *
+ * Chamadas acima do limite aguardam até maxWait; além de maxQueued aguardando,
+ * ou após o timeout, são recusadas (o chamador decide se reagenda).
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final int maxQueued;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    public AdaptiveConcurrencyLimit(int initialLimit,
+                                    int minLimit,
+                                    int maxLimit,
+                                    double backoffRatio,
+                                    long latencyThresholdMs,
+                                    int maxQueued) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.maxQueued = maxQueued;
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+    }
+
+    /**
+     * Reserva uma vaga, aguardando até {@code timeout} se o limite estiver ocupado.
+     *
+     * @return false se a fila de espera estiver cheia ou o tempo esgotar
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= maxQueued) {
+                return false;
+            }
+
+            waiting++;
+            try {
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Libera a vaga após uma resposta bem-sucedida.
+     */
+    public void onSuccess(long latencyNanos) {
+        lock.lock();
+        try {
+            if (latencyNanos > latencyThresholdNanos) {
+                decrease();
+            } else if (inFlight * 2 >= limit) {
+                // Só cresce se o limite estiver de fato em uso
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Libera a vaga após um sinal de sobrecarga do servidor (429, 503, timeout).
+     */
+    public void onDropped() {
+        lock.lock();
+        try {
+            decrease();
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Libera a vaga sem ajustar o limite (erro sem relação com carga).
+     */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    private void release() {
+        inFlight--;
+        released.signalAll();
+    }
+}
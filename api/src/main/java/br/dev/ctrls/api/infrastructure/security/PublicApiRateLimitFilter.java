@@ -0,0 +1,203 @@
+package br.dev.ctrls.api.infrastructure.security;
+
+import br.dev.ctrls.api.infrastructure.config.props.RateLimiterProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limit dos formulários públicos (/api/public/forms/**), por IP e por formulário.
+ *
+ * ESTRATÉGIA:
+ * - Um token bucket por IP do cliente (rate-limiter.public-api.bucket-*) e outro por
+ *   publicUuid do formulário (form-*), com estado no Redis compartilhado entre réplicas
+ * - Cada bucket tem um espelho local (otimização "delaying" do bucket4j): o consumo é
+ *   contabilizado em memória e sincronizado com o Redis a cada sync-threshold-tokens ou
+ *   sync-max-delay-ms, então a maioria das requisições não faz round-trip ao Redis
+ * - Excedente: 429 com Retry-After (segundos) em ProblemDetail (RFC 7807)
+ * - Falha do Redis libera a requisição: o rate limit nunca derruba o formulário
+ *
+ * O IP vem de request.getRemoteAddr(): com server.forward-headers-strategy=native
+ * o container já resolve X-Forwarded-For do load balancer.
+ *
+ * ORDEM: logo após o FilterExceptionHandler, antes da Security Filter Chain -
+ * requisições recusadas não chegam a JWT, tenant nem banco.
+ *
+ * Métrica: public.ratelimit (tags result = allowed/rejected, scope = ip/form/none).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class PublicApiRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String PATH_PREFIX = "/api/public/forms/";
+    private static final String KEY_PREFIX = "ratelimit:public:";
+
+    private final ProxyManager<byte[]> proxyManager;
+    private final RateLimiterProperties.PublicApi properties;
+    private final ObjectMapper objectMapper;
+    private final BucketConfiguration ipConfiguration;
+    private final BucketConfiguration formConfiguration;
+    private final Optimization optimization;
+    private final Cache<String, BucketProxy> buckets;
+
+    private final Counter allowed;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByForm;
+
+    public PublicApiRateLimitFilter(ProxyManager<byte[]> proxyManager,
+                                    RateLimiterProperties rateLimiterProperties,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.proxyManager = proxyManager;
+        this.properties = rateLimiterProperties.getPublicApi();
+        this.objectMapper = objectMapper;
+
+        this.ipConfiguration = configuration(properties.getBucketCapacity(),
+                properties.getRefillTokens(), properties.getRefillSeconds());
+        this.formConfiguration = configuration(properties.getFormBucketCapacity(),
+                properties.getFormRefillTokens(), properties.getFormRefillSeconds());
+        this.optimization = Optimizations.delaying(new DelayParameters(
+                properties.getSyncThresholdTokens(), Duration.ofMillis(properties.getSyncMaxDelayMs())));
+
+        // O estado local da otimização vive no BucketProxy: ele precisa sobreviver entre requisições
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalBuckets())
+                .expireAfterAccess(Duration.ofSeconds(Math.max(properties.getRefillSeconds(),
+                        properties.getFormRefillSeconds()) * 2L))
+                .build();
+
+        this.allowed = rateLimitCounter(meterRegistry, "allowed", "none");
+        this.rejectedByIp = rateLimitCounter(meterRegistry, "rejected", "ip");
+        this.rejectedByForm = rateLimitCounter(meterRegistry, "rejected", "form");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled()
+                || "OPTIONS".equals(request.getMethod())
+                || !request.getRequestURI().startsWith(PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        ConsumptionProbe ipProbe = tryConsume("ip:" + request.getRemoteAddr(), ipConfiguration);
+        if (ipProbe != null && !ipProbe.isConsumed()) {
+            rejectedByIp.increment();
+            log.warn("🚦 [RateLimit] Limite por IP atingido - URI: {}", request.getRequestURI());
+            sendTooManyRequests(response, ipProbe);
+            return;
+        }
+
+        String formId = formId(request.getRequestURI());
+        if (formId != null) {
+            ConsumptionProbe formProbe = tryConsume("form:" + formId, formConfiguration);
+            if (formProbe != null && !formProbe.isConsumed()) {
+                rejectedByForm.increment();
+                log.warn("🚦 [RateLimit] Limite do formulário atingido - URI: {}", request.getRequestURI());
+                sendTooManyRequests(response, formProbe);
+                return;
+            }
+        }
+
+        allowed.increment();
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * @return resultado do consumo, ou null se o Redis falhou (requisição liberada)
+     */
+    private ConsumptionProbe tryConsume(String key, BucketConfiguration configuration) {
+        try {
+            BucketProxy bucket = buckets.get(key, k -> proxyManager.builder()
+                    .withOptimization(optimization)
+                    .build((KEY_PREFIX + k).getBytes(StandardCharsets.UTF_8), () -> configuration));
+            return bucket.tryConsumeAndReturnRemaining(1);
+        } catch (RuntimeException ex) {
+            log.debug("Falha ao consultar rate limit no Redis (requisição liberada): {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Extrai o publicUuid de /api/public/forms/{uuid}[/...]; null se não for um UUID
+     * (o controller responde 400 e IDs aleatórios não criam buckets).
+     */
+    static String formId(String uri) {
+        if (!uri.startsWith(PATH_PREFIX)) {
+            return null;
+        }
+        String rest = uri.substring(PATH_PREFIX.length());
+        int slash = rest.indexOf('/');
+        String candidate = slash >= 0 ? rest.substring(0, slash) : rest;
+        try {
+            return UUID.fromString(candidate).toString();
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private void sendTooManyRequests(HttpServletResponse response, ConsumptionProbe probe) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill() + 999_999_999L));
+
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                "Muitas requisições. Tente novamente em " + retryAfterSeconds + " segundos.");
+        problem.setTitle("Limite de Requisições Excedido");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        objectMapper.writeValue(response.getWriter(), problem);
+    }
+
+    private static BucketConfiguration configuration(int capacity, int refillTokens, int refillSeconds) {
+        return BucketConfiguration.builder()
+                .addLimit(limit -> limit
+                        .capacity(capacity)
+                        .refillGreedy(refillTokens, Duration.ofSeconds(refillSeconds)))
+                .build();
+    }
+
+    private static Counter rateLimitCounter(MeterRegistry meterRegistry, String result, String scope) {
+        return Counter.builder("public.ratelimit")
+                .description("Requisições aos formulários públicos por resultado do rate limit")
+                .tag("result", result)
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
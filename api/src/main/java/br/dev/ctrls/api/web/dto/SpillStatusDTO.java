@@ -0,0 +1,18 @@
+package br.dev.ctrls.api.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+@Schema(description = "Situação da fila de transbordo de submissões")
+public record SpillStatusDTO(
+        @Schema(description = "Submissões aguardando reenfileiramento", example = "12")
+        long depth,
+
+        @Schema(description = "Data da submissão transbordada mais antiga", nullable = true,
+                example = "2024-11-24T10:30:00Z")
+        Instant oldestSpilledAt,
+
+        @Schema(description = "Submissões reenfileiradas nesta chamada (apenas no replay)", example = "12")
+        Integer replayed
+) {
+}
@@ -12,7 +12,7 @@ public record SubmissionResponse(
 
         @Schema(description = "Status atual do processamento da submissão",
                 example = "PENDING",
-                allowableValues = {"PENDING", "PROCESSED", "ERROR"})
+                allowableValues = {"PENDING", "PROCESSING", "PROCESSED", "ERROR"})
         SubmissionStatus status
 ) {
 }
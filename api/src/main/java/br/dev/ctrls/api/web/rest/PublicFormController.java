@@ -1,8 +1,9 @@
 package br.dev.ctrls.api.web.rest;
 
+import br.dev.ctrls.api.application.service.form.PublicFormCache;
+import br.dev.ctrls.api.application.service.form.PublicFormPayload;
 import br.dev.ctrls.api.application.service.submission.SubmissionService;
-import br.dev.ctrls.api.domain.form.FormTemplate;
-import br.dev.ctrls.api.domain.form.repository.FormTemplateRepository;
+import br.dev.ctrls.api.infrastructure.config.props.PublicFormProperties;
 import br.dev.ctrls.api.web.dto.FormPublicViewDTO;
 import br.dev.ctrls.api.web.dto.SubmissionRequest;
 import br.dev.ctrls.api.web.dto.SubmissionResponse;
@@ -14,10 +15,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.UUID;
 
 /**
@@ -38,14 +43,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PublicFormController {
 
-    private final FormTemplateRepository formTemplateRepository;
+    private final PublicFormCache publicFormCache;
     private final SubmissionService submissionService;
+    private final PublicFormProperties publicFormProperties;
 
     @GetMapping("/{uuid}")
     @Operation(
         summary = "Obter template de formulário público",
         description = "Retorna o template do formulário com informações de branding da clínica e médico. " +
                       "Usado pelo frontend para renderizar o formulário de anamnese. " +
+                      "Suporta GET condicional (ETag / Last-Modified) e pode ser cacheado por CDN. " +
                       "**Endpoint público - não requer autenticação.**"
     )
     @ApiResponses({
@@ -57,6 +64,10 @@ public class PublicFormController {
                 schema = @Schema(implementation = FormPublicViewDTO.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Formulário não mudou desde a versão em cache do cliente (If-None-Match / If-Modified-Since)"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Formulário não encontrado - UUID inválido ou formulário não existe",
@@ -74,11 +85,37 @@ public class PublicFormController {
             )
         )
     })
-    public ResponseEntity<FormPublicViewDTO> getForm(@PathVariable UUID uuid) {
-        FormTemplate template = formTemplateRepository.findByPublicUuid(uuid)
+    public ResponseEntity<byte[]> getForm(
+            @PathVariable UUID uuid,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        // Near cache → Redis → banco (invalidado quando template, clínica ou médico mudam)
+        PublicFormPayload form = publicFormCache.find(uuid)
                 .orElseThrow(() -> new IllegalArgumentException("Formulário não encontrado"));
 
-        return ResponseEntity.ok(FormPublicViewDTO.fromEntity(template));
+        // Corpo já serializado e comprimido: com Content-Encoding definido o Tomcat não recomprime
+        boolean gzip = PublicFormPayload.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(cacheControl())
+                // If-None-Match / If-Modified-Since: o Spring responde 304 sem corpo a partir destes validadores
+                .eTag(form.etag(gzip));
+        if (form.lastModified() != null) {
+            response.lastModified(form.lastModified());
+        }
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(form.body(gzip));
+    }
+
+    private CacheControl cacheControl() {
+        PublicFormProperties.Http http = publicFormProperties.getHttp();
+        return CacheControl.maxAge(Duration.ofSeconds(http.getMaxAgeSeconds()))
+                .sMaxAge(Duration.ofSeconds(http.getSharedMaxAgeSeconds()))
+                .staleWhileRevalidate(Duration.ofSeconds(http.getStaleWhileRevalidateSeconds()))
+                .cachePublic();
     }
 
     @PostMapping("/{uuid}/submit")
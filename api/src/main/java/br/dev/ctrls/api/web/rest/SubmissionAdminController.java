@@ -0,0 +1,75 @@
+package br.dev.ctrls.api.web.rest;
+
+import br.dev.ctrls.api.application.service.submission.SubmissionSpillDrainer;
+import br.dev.ctrls.api.application.service.submission.SubmissionSpillStore;
+import br.dev.ctrls.api.web.dto.SpillStatusDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoints operacionais do pipeline de submissões (restritos a SUPER_ADMIN).
+ */
+@Tag(name = "Administração de Submissões", description = "Operação do pipeline assíncrono (requer SUPER_ADMIN)")
+@RestController
+@RequestMapping("/api/admin/submissions")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class SubmissionAdminController {
+
+    private final SubmissionSpillStore spillStore;
+    private final SubmissionSpillDrainer spillDrainer;
+
+    @GetMapping("/spill")
+    @Operation(
+        summary = "Consultar fila de transbordo",
+        description = "Retorna quantas submissões foram rejeitadas pelo executor e aguardam reenfileiramento."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Situação da fila de transbordo",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SpillStatusDTO.class))
+        ),
+        @ApiResponse(responseCode = "403", description = "Acesso restrito a SUPER_ADMIN")
+    })
+    public ResponseEntity<SpillStatusDTO> getSpillStatus() {
+        return ResponseEntity.ok(new SpillStatusDTO(
+                spillDrainer.depth(),
+                spillStore.oldestSpilledAt().orElse(null),
+                null
+        ));
+    }
+
+    @PostMapping("/spill/replay")
+    @Operation(
+        summary = "Reenfileirar fila de transbordo",
+        description = "Reenfileira imediatamente as submissões transbordadas, respeitando a capacidade livre do executor."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Replay executado - retorna quantas foram reenfileiradas e a profundidade restante",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SpillStatusDTO.class))
+        ),
+        @ApiResponse(responseCode = "403", description = "Acesso restrito a SUPER_ADMIN")
+    })
+    public ResponseEntity<SpillStatusDTO> replaySpill() {
+        int replayed = spillDrainer.replay();
+        return ResponseEntity.ok(new SpillStatusDTO(
+                spillDrainer.depth(),
+                spillStore.oldestSpilledAt().orElse(null),
+                replayed
+        ));
+    }
+}
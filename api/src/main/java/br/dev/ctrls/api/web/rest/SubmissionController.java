@@ -1,5 +1,8 @@
 package br.dev.ctrls.api.web.rest;
 
+import br.dev.ctrls.api.application.service.document.StoredPdf;
+import br.dev.ctrls.api.application.service.submission.SubmissionExportService;
+import br.dev.ctrls.api.application.service.submission.SubmissionPdfService;
 import br.dev.ctrls.api.domain.submission.Submission;
 import br.dev.ctrls.api.domain.submission.SubmissionStatus;
 import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
@@ -12,13 +15,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -30,10 +47,22 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class SubmissionController {
 
+    // Atributos de sendfile do Tomcat (os mesmos usados pelo DefaultServlet)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final SubmissionRepository submissionRepository;
+    private final SubmissionPdfService submissionPdfService;
+    private final SubmissionExportService submissionExportService;
 
-    public SubmissionController(SubmissionRepository submissionRepository) {
+    public SubmissionController(SubmissionRepository submissionRepository,
+                                SubmissionPdfService submissionPdfService,
+                                SubmissionExportService submissionExportService) {
         this.submissionRepository = submissionRepository;
+        this.submissionPdfService = submissionPdfService;
+        this.submissionExportService = submissionExportService;
     }
 
     @GetMapping
@@ -51,7 +80,7 @@ public class SubmissionController {
             @Parameter(
                 name = "status",
                 description = "Filtrar por status da submissão (opcional)",
-                schema = @Schema(allowableValues = {"PENDING", "PROCESSED", "ERROR"}),
+                schema = @Schema(allowableValues = {"PENDING", "PROCESSING", "PARKED", "PROCESSED", "ERROR"}),
                 example = "PROCESSED"
             ),
             @Parameter(
@@ -124,4 +153,143 @@ public class SubmissionController {
 
         return ResponseEntity.ok(dtoPage);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/pdf")
+    @Operation(
+        summary = "Baixar o PDF da anamnese",
+        description = "Retorna o PDF gerado para a submissão. O arquivo armazenado é enviado sem cópia " +
+                      "para o heap (sendfile); só é renderizado se ainda não existir.",
+        parameters = {
+            @Parameter(
+                name = "X-Clinic-ID",
+                description = "UUID da clínica (header obrigatório para multi-tenancy)",
+                required = true,
+                example = "123e4567-e89b-12d3-a456-426614174000"
+            )
+        }
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "PDF da submissão",
+            content = @Content(mediaType = "application/pdf")
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "PDF não mudou (If-None-Match com a ETag = SHA-256 do arquivo)"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Submissão não encontrada na clínica",
+            content = @Content(
+                mediaType = "application/problem+json",
+                schema = @Schema(implementation = ProblemDetail.class)
+            )
+        )
+    })
+    public void downloadPdf(
+            @RequestHeader("X-Clinic-ID") UUID clinicId,
+            @PathVariable UUID id,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        StoredPdf pdf = submissionPdfService.findPdf(clinicId, id);
+
+        // PDF endereçado por conteúdo: o SHA-256 é uma ETag forte; If-None-Match igual → 304 sem reenviar o arquivo
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(pdf.sha256())) {
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setContentLengthLong(pdf.size());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename("anamnese-" + id + ".pdf").build().toString());
+
+        // Tomcat NIO: o conector envia o arquivo com sendfile(2) após o retorno do controller
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, pdf.path().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, pdf.size());
+            return;
+        }
+
+        // Sem sendfile (outro container, TLS no conector...): transferTo em blocos, sem o PDF inteiro no heap
+        try (FileChannel file = FileChannel.open(pdf.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < pdf.size()) {
+                position += file.transferTo(position, pdf.size() - position, out);
+            }
+        }
+    }
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "Exportar PDFs em ZIP",
+        description = "Gera um ZIP com os PDFs das submissões criadas no período [from, to). " +
+                      "O arquivo é escrito em streaming conforme os PDFs ficam prontos (PDFs já armazenados " +
+                      "são reaproveitados); falhas individuais são listadas em ERROS.txt dentro do ZIP.",
+        parameters = {
+            @Parameter(
+                name = "X-Clinic-ID",
+                description = "UUID da clínica (header obrigatório para multi-tenancy)",
+                required = true,
+                example = "123e4567-e89b-12d3-a456-426614174000"
+            ),
+            @Parameter(
+                name = "from",
+                description = "Início do período (ISO-8601, inclusivo)",
+                required = true,
+                example = "2026-01-01T00:00:00Z"
+            ),
+            @Parameter(
+                name = "to",
+                description = "Fim do período (ISO-8601, exclusivo)",
+                required = true,
+                example = "2026-02-01T00:00:00Z"
+            ),
+            @Parameter(
+                name = "status",
+                description = "Filtrar por status da submissão (opcional)",
+                schema = @Schema(allowableValues = {"PENDING", "PROCESSING", "PARKED", "PROCESSED", "ERROR"}),
+                example = "PROCESSED"
+            )
+        }
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "ZIP com os PDFs do período",
+            content = @Content(mediaType = "application/zip")
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Período inválido",
+            content = @Content(
+                mediaType = "application/problem+json",
+                schema = @Schema(implementation = ProblemDetail.class)
+            )
+        )
+    })
+    public void exportPdfs(
+            @RequestHeader("X-Clinic-ID") UUID clinicId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) SubmissionStatus status,
+            HttpServletResponse response) throws IOException {
+
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Período inválido: 'from' deve ser anterior a 'to'");
+        }
+
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("anamneses.zip").build().toString());
+
+        // Escrita síncrona direto na resposta (sem StreamingResponseBody): exportações longas
+        // não esbarram no timeout de requisições assíncronas e o tamanho final não é conhecido
+        submissionExportService.exportZip(clinicId, from, to, status, response.getOutputStream());
+    }
+}
@@ -0,0 +1,5 @@
+-- Falhas marcadas como temporárias (retries do Feegow esgotados, banco indisponível).
+-- Só essas voltam a ser recolhidas pelo sweeper; erros definitivos (Feegow 4xx,
+-- respostas inválidas, layout do PDF) ficam em ERROR até intervenção manual.
+
+ALTER TABLE submissions ADD COLUMN error_retryable BOOLEAN NOT NULL DEFAULT FALSE;
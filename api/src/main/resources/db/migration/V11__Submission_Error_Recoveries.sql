@@ -0,0 +1,6 @@
+-- Recolhimentos de ERROR temporário pelo sweeper.
+-- attempts conta todos os claims (retries agendados e PARKED incluídos) e não serve
+-- de limite: uma submissão que esgotou os retries já passou de qualquer teto razoável.
+-- O sweeper compara este contador com submission.recovery.max-error-recoveries.
+
+ALTER TABLE submissions ADD COLUMN error_recoveries INTEGER NOT NULL DEFAULT 0;
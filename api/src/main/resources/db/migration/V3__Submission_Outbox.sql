@@ -0,0 +1,14 @@
+-- Outbox transacional para despacho de submissões.
+-- A linha é gravada na MESMA transação do insert em submissions e só é removida
+-- quando o processamento termina (PROCESSED/ERROR), garantindo entrega at-least-once.
+
+CREATE TABLE submission_outbox (
+    id UUID PRIMARY KEY,
+    submission_id UUID NOT NULL UNIQUE REFERENCES submissions(id),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_submission_outbox_available_at ON submission_outbox(available_at, created_at);
@@ -0,0 +1,12 @@
+-- Fila de transbordo (spill) para submissões rejeitadas pelo submissionTaskExecutor.
+-- Quando a fila em memória está cheia, o ID é persistido aqui e reenfileirado
+-- automaticamente assim que o pool volta a ter capacidade.
+
+CREATE TABLE submission_spill (
+    id UUID PRIMARY KEY,
+    submission_id UUID NOT NULL UNIQUE REFERENCES submissions(id),
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_submission_spill_created_at ON submission_spill(created_at);
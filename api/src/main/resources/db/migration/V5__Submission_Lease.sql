@@ -0,0 +1,10 @@
+-- Lease de processamento para recuperação após crash (multi-réplica).
+-- Uma réplica só processa a submissão depois de "reivindicá-la" (status PROCESSING
+-- + lease_owner/lease_until). Leases vencidos são recolhidos pelo sweeper.
+
+ALTER TABLE submissions ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE submissions ADD COLUMN lease_owner VARCHAR(100);
+ALTER TABLE submissions ADD COLUMN lease_until TIMESTAMPTZ;
+
+CREATE INDEX idx_submissions_status_lease_until ON submissions(status, lease_until)
+    WHERE status IN ('PENDING', 'PROCESSING', 'ERROR');
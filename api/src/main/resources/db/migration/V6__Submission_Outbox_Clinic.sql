@@ -0,0 +1,10 @@
+-- Clínica da submissão no outbox: o escalonador justo agrupa o trabalho por clínica
+-- sem consultar submissions/form_templates a cada despacho.
+
+ALTER TABLE submission_outbox ADD COLUMN clinic_id UUID REFERENCES clinics(id);
+
+UPDATE submission_outbox o
+SET clinic_id = t.clinic_id
+FROM submissions s
+JOIN form_templates t ON t.id = s.form_template_id
+WHERE s.id = o.submission_id;
@@ -0,0 +1,7 @@
+-- Retry não bloqueante das chamadas ao Feegow.
+-- Falhas temporárias agendam a próxima tentativa (outbox.available_at = next_attempt_at)
+-- em vez de dormir na thread do worker; o estado sobrevive a restarts.
+
+ALTER TABLE submissions ADD COLUMN retry_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE submissions ADD COLUMN next_attempt_at TIMESTAMPTZ;
+ALTER TABLE submissions ADD COLUMN last_error VARCHAR(500);
@@ -0,0 +1,7 @@
+-- Status PARKED: circuito do Feegow da clínica aberto. A submissão aguarda
+-- next_attempt_at sem consumir retries e volta a ser reivindicável depois.
+
+DROP INDEX IF EXISTS idx_submissions_status_lease_until;
+
+CREATE INDEX idx_submissions_status_lease_until ON submissions(status, lease_until)
+    WHERE status IN ('PENDING', 'PARKED', 'PROCESSING', 'ERROR');
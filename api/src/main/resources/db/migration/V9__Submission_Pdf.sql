@@ -0,0 +1,4 @@
+-- PDF gerado guardado por conteúdo (SHA-256 em hex) no PdfStore.
+-- Retries do upload e downloads pelo dashboard reutilizam o arquivo em vez de renderizar de novo.
+
+ALTER TABLE submissions ADD COLUMN pdf_sha256 VARCHAR(64);
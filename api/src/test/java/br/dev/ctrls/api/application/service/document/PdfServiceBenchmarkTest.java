@@ -0,0 +1,305 @@
+package br.dev.ctrls.api.application.service.document;
+
+import br.dev.ctrls.api.domain.form.FormTemplate;
+import br.dev.ctrls.api.domain.submission.Submission;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lowagie.text.Chunk;
+import com.lowagie.text.Document;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.sun.management.ThreadMXBean;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de vazão (PDFs/s) da geração de PDF de anamnese.
+ *
+ * IMPLEMENTAÇÕES:
+ * - Anterior: FontFactory no laço, chaves cruas das respostas
+ * - Anterior + rótulos: a mesma, interpretando o schemaJson a cada PDF para imprimir as perguntas
+ * - Layout compilado: schema compilado e cacheado por template, fontes pré-resolvidas
+ *
+ * A comparação justa é com "anterior + rótulos": o custo do OpenPDF cresce com o texto impresso,
+ * e os rótulos das perguntas são mais longos que as chaves.
+ *
+ * Aquecimento seguido de janelas de medição de tempo fixo em uma thread,
+ * com um formulário de 40 perguntas em 4 seções.
+ *
+ * compareAnswerAllocation mede os bytes alocados por PDF (ThreadMXBean) ao ler o answersJson:
+ * árvore org.json (implementação anterior) x JsonParser em streaming (AnswerReader).
+ *
+ * Executar com: ./mvnw test -Pbenchmark -Dtest=PdfServiceBenchmarkTest
+ */
+@Tag("benchmark")
+class PdfServiceBenchmarkTest {
+
+    private static final int FIELDS = 40;
+    private static final long WARMUP_MS = 3_000;
+    private static final int ROUNDS = 7;
+    private static final long ROUND_MS = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compareThroughput() throws Exception {
+        FormTemplate template = template();
+        Submission submission = submission();
+        // Sem Spring o logback fica em DEBUG: o log por PDF no console dominaria a medição
+        ((Logger) LoggerFactory.getLogger(PdfService.class)).setLevel(Level.WARN);
+        PdfService pdfService = pdfService();
+
+        measure(() -> legacyPdf(submission, template), WARMUP_MS);
+        measure(() -> legacyLabeledPdf(submission, template), WARMUP_MS);
+        measure(() -> pdfService.generateAnamnesisPdf(submission, template), WARMUP_MS);
+
+        // Rodadas intercaladas: ruído da máquina (GC, vizinhos) atinge as duas implementações
+        double[] legacyRounds = new double[ROUNDS];
+        double[] labeledRounds = new double[ROUNDS];
+        double[] compiledRounds = new double[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            legacyRounds[round] = measure(() -> legacyPdf(submission, template), ROUND_MS);
+            labeledRounds[round] = measure(() -> legacyLabeledPdf(submission, template), ROUND_MS);
+            compiledRounds[round] = measure(() -> pdfService.generateAnamnesisPdf(submission, template), ROUND_MS);
+        }
+        double legacy = median(legacyRounds);
+        double labeled = median(labeledRounds);
+        double compiled = median(compiledRounds);
+
+        System.out.printf("%n[benchmark] Anamnese com %d perguntas (mediana de %d rodadas)%n", FIELDS, ROUNDS);
+        System.out.printf("[benchmark] Anterior (chaves cruas): %8.1f PDFs/s%n", legacy);
+        System.out.printf("[benchmark] Anterior + rótulos:      %8.1f PDFs/s%n", labeled);
+        System.out.printf("[benchmark] Layout compilado:        %8.1f PDFs/s (%.2fx vs anterior + rótulos)%n",
+                compiled, compiled / labeled);
+
+        // O layout compilado ainda imprime seções e espaçamento; o custo dominante é o layout de texto do OpenPDF
+        assertThat(compiled).isGreaterThan(labeled * 0.9);
+    }
+
+    @Test
+    void compareAnswerAllocation() throws Exception {
+        Submission submission = submission();
+        ((Logger) LoggerFactory.getLogger(PdfService.class)).setLevel(Level.WARN);
+        FormTemplate template = template();
+        PdfService pdfService = pdfService();
+        JsonFactory jsonFactory = objectMapper.getFactory();
+        String answersJson = submission.getAnswersJson();
+
+        Supplier<Integer> tree = () -> legacyAnswers(answersJson).size();
+        Supplier<Integer> streaming = () -> {
+            Map<String, String> answers = new LinkedHashMap<>();
+            try {
+                AnswerReader.forEach(jsonFactory, answersJson, answers::put);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return answers.size();
+        };
+
+        for (int i = 0; i < 20_000; i++) {
+            tree.get();
+            streaming.get();
+        }
+        measure(() -> pdfService.generateAnamnesisPdf(submission, template), WARMUP_MS);
+
+        double treeBytes = allocatedPerCall(tree, 10_000);
+        double streamingBytes = allocatedPerCall(streaming, 10_000);
+        double pdfBytes = allocatedPerCall(() -> pdfService.generateAnamnesisPdf(submission, template).length, 500);
+
+        System.out.printf("%n[benchmark] Leitura do answersJson (%d respostas, %d chars)%n", FIELDS, answersJson.length());
+        System.out.printf("[benchmark] Árvore org.json:       %10.0f bytes alocados/PDF%n", treeBytes);
+        System.out.printf("[benchmark] JsonParser streaming:  %10.0f bytes alocados/PDF (%.1f%% a menos)%n",
+                streamingBytes, 100 * (1 - streamingBytes / treeBytes));
+        System.out.printf("[benchmark] PDF completo:          %10.0f bytes alocados/PDF (leitura = %.1f%%)%n",
+                pdfBytes, 100 * streamingBytes / pdfBytes);
+
+        assertThat(streamingBytes).isLessThan(treeBytes);
+    }
+
+    private static double allocatedPerCall(Supplier<Integer> call, int iterations) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long sink = 0;
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            sink += call.get();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertThat(sink).isPositive();
+        return (double) allocated / iterations;
+    }
+
+    /**
+     * Leitura das respostas da implementação anterior: árvore JSONObject e texto de cada valor.
+     */
+    private static Map<String, String> legacyAnswers(String answersJson) {
+        JSONObject json = new JSONObject(answersJson);
+        Map<String, String> answers = new LinkedHashMap<>();
+        for (String key : json.keySet()) {
+            Object value = json.opt(key);
+            if (value instanceof JSONArray options) {
+                StringBuilder joined = new StringBuilder();
+                for (Object option : options) {
+                    if (!joined.isEmpty()) {
+                        joined.append(", ");
+                    }
+                    joined.append(option);
+                }
+                answers.put(key, joined.toString());
+            } else {
+                answers.put(key, String.valueOf(value));
+            }
+        }
+        return answers;
+    }
+
+    private PdfService pdfService() {
+        return new PdfService(new PdfLayoutCompiler(objectMapper, new SimpleMeterRegistry()), objectMapper);
+    }
+
+    private static double measure(Supplier<byte[]> render, long millis) {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long start = System.nanoTime();
+        long count = 0;
+        long bytes = 0;
+        while (System.nanoTime() < deadline) {
+            bytes += render.get().length;
+            count++;
+        }
+        assertThat(bytes).isPositive();
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Cópia da implementação anterior do PdfService (referência do benchmark).
+     */
+    private static byte[] legacyPdf(Submission submission, FormTemplate template) {
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            Document document = new Document();
+            PdfWriter.getInstance(document, baos);
+            document.open();
+
+            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
+            document.add(new Paragraph("Anamnese - " + submission.getPatientName(), titleFont));
+            document.add(new Paragraph("CPF: " + submission.getPatientCpf()));
+            document.add(new Paragraph("Formulário: " + template.getTitle()));
+            document.add(new Paragraph(" "));
+
+            JSONObject json = new JSONObject(submission.getAnswersJson());
+            for (String key : json.keySet()) {
+                Object value = json.get(key);
+                Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
+                document.add(new Paragraph(key + ": " + value, normalFont));
+            }
+
+            document.close();
+            return baos.toByteArray();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Implementação anterior estendida para imprimir os rótulos: o schema é interpretado a cada PDF.
+     */
+    private byte[] legacyLabeledPdf(Submission submission, FormTemplate template) {
+        try {
+            Map<String, String> labels = new LinkedHashMap<>();
+            for (JsonNode section : objectMapper.readTree(template.getSchemaJson()).path("sections")) {
+                for (JsonNode field : section.path("fields")) {
+                    labels.put(field.path("id").asText(), field.path("label").asText());
+                }
+            }
+
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            Document document = new Document();
+            PdfWriter.getInstance(document, baos);
+            document.open();
+
+            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
+            document.add(new Paragraph("Anamnese - " + submission.getPatientName(), titleFont));
+            document.add(new Paragraph("CPF: " + submission.getPatientCpf()));
+            document.add(new Paragraph("Formulário: " + template.getTitle()));
+            document.add(new Paragraph(" "));
+
+            JSONObject json = new JSONObject(submission.getAnswersJson());
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                Object value = json.opt(label.getKey());
+                if (value == null) {
+                    continue;
+                }
+                Paragraph paragraph = new Paragraph();
+                paragraph.add(new Chunk(label.getValue() + ": ", FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11)));
+                paragraph.add(new Chunk(String.valueOf(value), FontFactory.getFont(FontFactory.HELVETICA, 11)));
+                document.add(paragraph);
+            }
+
+            document.close();
+            return baos.toByteArray();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private FormTemplate template() throws Exception {
+        List<Map<String, Object>> sections = new ArrayList<>();
+        for (int s = 0; s < 4; s++) {
+            List<Map<String, Object>> fields = new ArrayList<>();
+            for (int f = 0; f < FIELDS / 4; f++) {
+                int index = s * (FIELDS / 4) + f;
+                fields.add(Map.of("id", "q" + index, "label", "Pergunta número " + index + " da anamnese?", "type", "text"));
+            }
+            sections.add(Map.of("title", "Seção " + s, "fields", fields));
+        }
+        return FormTemplate.builder()
+                .id(UUID.randomUUID())
+                .updatedAt(Instant.now())
+                .title("Anamnese Completa")
+                .schemaJson(objectMapper.writeValueAsString(Map.of("sections", sections)))
+                .build();
+    }
+
+    private Submission submission() throws Exception {
+        Map<String, Object> answers = new LinkedHashMap<>();
+        for (int i = 0; i < FIELDS; i++) {
+            answers.put("q" + i, i % 3 == 0 ? List.of("Opção A", "Opção B") : "Resposta livre do paciente " + i);
+        }
+        return Submission.builder()
+                .id(UUID.randomUUID())
+                .patientName("Paciente Benchmark")
+                .patientCpf("12345678901")
+                .answersJson(objectMapper.writeValueAsString(answers))
+                .build();
+    }
+}
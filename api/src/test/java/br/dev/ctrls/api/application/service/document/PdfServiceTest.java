@@ -0,0 +1,124 @@
+package br.dev.ctrls.api.application.service.document;
+
+import br.dev.ctrls.api.domain.form.FormTemplate;
+import br.dev.ctrls.api.domain.submission.Submission;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários da geração de PDF com layout compilado do schema.
+ */
+class PdfServiceTest {
+
+    private static final String SCHEMA = """
+            {"sections": [
+              {"title": "Queixa", "fields": [{"id": "sintomas", "label": "Quais sintomas?", "type": "textarea"}]},
+              {"title": "Histórico", "fields": [
+                {"id": "alergias", "label": "Possui alergias?", "type": "checkbox", "options": ["Dipirona", "Lactose"]},
+                {"id": "fumante", "label": "É fumante?", "type": "radio"}
+              ]}
+            ]}
+            """;
+
+    private PdfLayoutCompiler compiler;
+    private PdfService pdfService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        compiler = new PdfLayoutCompiler(objectMapper, new SimpleMeterRegistry());
+        pdfService = new PdfService(compiler, objectMapper);
+    }
+
+    @Test
+    void shouldPrintLabelsInSchemaOrder() throws Exception {
+        FormTemplate template = template(SCHEMA, Instant.now());
+
+        String text = text(pdfService.generateAnamnesisPdf(submission(
+                "{\"fumante\": false, \"sintomas\": \"Dor de cabeça\", \"alergias\": [\"Dipirona\", \"Lactose\"], \"extra\": \"x\"}"),
+                template));
+
+        assertThat(text).contains("Quais sintomas?: Dor de cabeça", "Possui alergias?: Dipirona, Lactose", "É fumante?: Não");
+        assertThat(text.indexOf("Queixa")).isLessThan(text.indexOf("Histórico"));
+        assertThat(text).contains("Outras respostas", "extra: x");
+        assertThat(text).doesNotContain("sintomas:");
+    }
+
+    @Test
+    void shouldReuseLayoutUntilTemplateChanges() {
+        Instant updatedAt = Instant.now();
+        FormTemplate template = template(SCHEMA, updatedAt);
+
+        PdfLayout first = compiler.layoutFor(template);
+        assertThat(compiler.layoutFor(template)).isSameAs(first);
+
+        template.setSchemaJson("[{\"id\": \"sintomas\", \"label\": \"Sintomas atuais\"}]");
+        template.setUpdatedAt(updatedAt.plusSeconds(1));
+
+        PdfLayout edited = compiler.layoutFor(template);
+        assertThat(edited).isNotSameAs(first);
+        assertThat(edited.fields().get("sintomas").label()).isEqualTo("Sintomas atuais");
+    }
+
+    @Test
+    void shouldFallBackToRawKeysWhenSchemaIsInvalid() throws Exception {
+        FormTemplate template = template("{nao e json", Instant.now());
+
+        String text = text(pdfService.generateAnamnesisPdf(submission("{\"sintomas\": \"Febre\"}"), template));
+
+        assertThat(text).contains("sintomas: Febre");
+    }
+
+    @Test
+    void shouldKeepSubmissionOrderAndFormatNestedAnswers() throws Exception {
+        FormTemplate template = template(SCHEMA, Instant.now());
+
+        String text = text(pdfService.generateAnamnesisPdf(submission("""
+                {"zeta": "último?", "alergias": [], "medicamentos": [{"nome": "Losartana", "dose": "50mg"}],
+                 "contato": {"telefone": null, "email": "maria@exemplo.com"}, "alfa": 7, "vazio": "  "}
+                """), template));
+
+        assertThat(text).contains("zeta: último?", "nome: Losartana; dose: 50mg", "contato: email: maria@exemplo.com",
+                "alfa: 7");
+        // Sem HashMap no caminho: "Outras respostas" segue a ordem do envio
+        assertThat(text.indexOf("zeta:")).isLessThan(text.indexOf("medicamentos:"));
+        assertThat(text.indexOf("medicamentos:")).isLessThan(text.indexOf("alfa:"));
+        assertThat(text).doesNotContain("Possui alergias?", "vazio:", "telefone");
+    }
+
+    private static FormTemplate template(String schemaJson, Instant updatedAt) {
+        return FormTemplate.builder()
+                .id(UUID.randomUUID())
+                .updatedAt(updatedAt)
+                .title("Anamnese Geral")
+                .schemaJson(schemaJson)
+                .build();
+    }
+
+    private static Submission submission(String answersJson) {
+        return Submission.builder()
+                .id(UUID.randomUUID())
+                .patientName("Maria Silva")
+                .patientCpf("12345678901")
+                .answersJson(answersJson)
+                .build();
+    }
+
+    private static String text(byte[] pdf) throws Exception {
+        PdfReader reader = new PdfReader(pdf);
+        try {
+            return new PdfTextExtractor(reader).getTextFromPage(1);
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.dev.ctrls.api.application.service.document;
+
+import br.dev.ctrls.api.infrastructure.config.props.PdfStorageProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários do armazenamento de PDFs por conteúdo.
+ */
+class PdfStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private PdfStore pdfStore;
+
+    @BeforeEach
+    void setUp() {
+        PdfStorageProperties properties = new PdfStorageProperties();
+        properties.setDirectory(directory.toString());
+        pdfStore = new PdfStore(properties);
+    }
+
+    @Test
+    void shouldStoreByContentHashOnlyOnce() throws Exception {
+        byte[] pdf = "%PDF-1.4 anamnese".getBytes(StandardCharsets.US_ASCII);
+
+        String first = pdfStore.store(pdf);
+        String second = pdfStore.store(pdf.clone());
+
+        assertThat(first).isEqualTo(second).hasSize(64);
+        StoredPdf stored = pdfStore.find(first).orElseThrow();
+        assertThat(stored.size()).isEqualTo(pdf.length);
+        assertThat(stored.path()).startsWith(directory.resolve(first.substring(0, 2)));
+        assertThat(pdfStore.read(first)).contains(pdf);
+        // Nenhum temporário sobrando
+        try (Stream<Path> files = Files.walk(directory)) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    void shouldIgnoreMissingOrMalformedHashes() {
+        assertThat(pdfStore.find(null)).isEmpty();
+        assertThat(pdfStore.find("../../etc/passwd")).isEmpty();
+        assertThat(pdfStore.read("0".repeat(64))).isEmpty();
+    }
+}
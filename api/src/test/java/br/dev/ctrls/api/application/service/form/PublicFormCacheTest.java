@@ -0,0 +1,233 @@
+package br.dev.ctrls.api.application.service.form;
+
+import br.dev.ctrls.api.domain.clinic.Clinic;
+import br.dev.ctrls.api.domain.form.FormTemplate;
+import br.dev.ctrls.api.domain.form.repository.FormTemplateRepository;
+import br.dev.ctrls.api.infrastructure.config.props.PublicFormProperties;
+import br.dev.ctrls.api.web.dto.FormPublicViewDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários do cache em duas camadas do formulário público.
+ */
+class PublicFormCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FormTemplateRepository formTemplateRepository;
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private PublicFormCache cache;
+    /** Conteúdo do Redis simulado, compartilhado pelas "réplicas" do teste. */
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+
+    private FormTemplate template;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        formTemplateRepository = mock(FormTemplateRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.delete(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            keys.forEach(redis::remove);
+            return (long) keys.size();
+        });
+        // Script de gravação: só grava se não houver marca de invalidação (KEYS[2])
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            if (redis.containsKey(keys.get(1))) {
+                return 0L;
+            }
+            redis.put(keys.get(0), invocation.getArgument(2));
+            return 1L;
+        });
+
+        Clinic clinic = Clinic.builder()
+                .id(UUID.randomUUID())
+                .name("Clínica Exemplo")
+                .address("Av. Paulista, 1000")
+                .primaryColor("#0066CC")
+                .updatedAt(Instant.parse("2026-03-01T10:00:00Z"))
+                .build();
+        template = FormTemplate.builder()
+                .id(UUID.randomUUID())
+                .title("Anamnese Geral")
+                .schemaJson("[]")
+                .updatedAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .clinic(clinic)
+                .build();
+        when(formTemplateRepository.findByPublicUuid(template.getPublicUuid())).thenReturn(Optional.of(template));
+
+        cache = new PublicFormCache(formTemplateRepository, redisTemplate, objectMapper,
+                new PublicFormProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromNearCache() throws Exception {
+        UUID uuid = template.getPublicUuid();
+
+        PublicFormPayload first = cache.find(uuid).orElseThrow();
+        PublicFormPayload second = cache.find(uuid).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(view(first).clinicBranding().name()).isEqualTo("Clínica Exemplo");
+        assertThat(gunzip(first.gzip())).isEqualTo(first.json());
+        verify(formTemplateRepository, times(1)).findByPublicUuid(uuid);
+        assertThat(redis).containsKey("public-form:v2:" + uuid);
+    }
+
+    @Test
+    void shouldLoadFromRedisBeforeDatabase() throws Exception {
+        UUID uuid = template.getPublicUuid();
+        String json = objectMapper.writeValueAsString(FormPublicViewDTO.fromEntity(template));
+        redis.put("public-form:v2:" + uuid, objectMapper.writeValueAsString(
+                new PublicFormCache.RedisEntry("v1", 1_000L, json)));
+
+        PublicFormPayload payload = cache.find(uuid).orElseThrow();
+        assertThat(payload.json()).isEqualTo(json.getBytes(StandardCharsets.UTF_8));
+        assertThat(payload.version()).isEqualTo("v1");
+        assertThat(payload.lastModified()).isEqualTo(Instant.ofEpochMilli(1_000L));
+        verify(formTemplateRepository, never()).findByPublicUuid(any());
+    }
+
+    @Test
+    void shouldNotCacheUnknownForms() {
+        UUID unknown = UUID.randomUUID();
+
+        assertThat(cache.find(unknown)).isEmpty();
+        assertThat(cache.find(unknown)).isEmpty();
+
+        verify(formTemplateRepository, times(2)).findByPublicUuid(unknown);
+    }
+
+    @Test
+    void shouldEvictFormsOfChangedClinicEverywhere() throws Exception {
+        UUID uuid = template.getPublicUuid();
+        UUID clinicId = template.getClinic().getId();
+        when(formTemplateRepository.findPublicUuidsByClinicId(clinicId)).thenReturn(List.of(uuid));
+
+        String version = cache.find(uuid).orElseThrow().version();
+
+        template.getClinic().setName("Clínica Renomeada");
+        template.getClinic().setUpdatedAt(template.getClinic().getUpdatedAt().plusSeconds(1));
+        cache.onChanged(new PublicFormChangedEvent(PublicFormChangedEvent.Scope.CLINIC, clinicId));
+
+        PublicFormPayload reloaded = cache.find(uuid).orElseThrow();
+        assertThat(view(reloaded).clinicBranding().name()).isEqualTo("Clínica Renomeada");
+        assertThat(reloaded.version()).isNotEqualTo(version);
+        assertThat(reloaded.lastModified()).isEqualTo(template.getClinic().getUpdatedAt());
+        verify(redisTemplate).delete(List.of("public-form:v2:" + uuid));
+        verify(redisTemplate).convertAndSend(PublicFormCache.INVALIDATION_CHANNEL, uuid.toString());
+    }
+
+    @Test
+    void shouldNotWriteBackStaleFormEvictedDuringLoad() throws Exception {
+        UUID uuid = template.getPublicUuid();
+        FormTemplate edited = FormTemplate.builder()
+                .id(template.getId())
+                .publicUuid(uuid)
+                .title("Anamnese Revisada")
+                .schemaJson("[]")
+                .updatedAt(template.getUpdatedAt().plusSeconds(1))
+                .clinic(template.getClinic())
+                .build();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        when(formTemplateRepository.findByPublicUuid(uuid)).thenAnswer(invocation -> {
+            if (reads.getAndIncrement() > 0) {
+                return Optional.of(edited);
+            }
+            // Outra réplica leu a versão antiga e fica parada até a edição ser invalidada
+            reading.countDown();
+            assertThat(committed.await(5, TimeUnit.SECONDS)).isTrue();
+            return Optional.of(template);
+        });
+        PublicFormCache otherReplica = new PublicFormCache(formTemplateRepository, redisTemplate, objectMapper,
+                new PublicFormProperties(), new SimpleMeterRegistry());
+
+        CompletableFuture<Optional<PublicFormPayload>> staleLoad =
+                CompletableFuture.supplyAsync(() -> otherReplica.find(uuid));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.evict(List.of(uuid));
+        committed.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+
+        assertThat(redis).doesNotContainKey("public-form:v2:" + uuid);
+        assertThat(view(cache.find(uuid).orElseThrow()).title()).isEqualTo("Anamnese Revisada");
+    }
+
+    @Test
+    void shouldEvictNearCacheOnInvalidationFromOtherReplica() {
+        UUID uuid = template.getPublicUuid();
+        cache.find(uuid);
+
+        cache.onMessage(new DefaultMessage(PublicFormCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                uuid.toString().getBytes(StandardCharsets.UTF_8)), null);
+        cache.find(uuid);
+
+        // Fora do near cache, a segunda leitura volta ao Redis (que a outra réplica já limpou)
+        verify(valueOperations, times(2)).get("public-form:v2:" + uuid);
+    }
+
+    @Test
+    void shouldNegotiateGzipFromAcceptEncoding() {
+        assertThat(PublicFormPayload.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PublicFormPayload.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(PublicFormPayload.acceptsGzip("*")).isTrue();
+        assertThat(PublicFormPayload.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PublicFormPayload.acceptsGzip("identity")).isFalse();
+        assertThat(PublicFormPayload.acceptsGzip(null)).isFalse();
+    }
+
+    private FormPublicViewDTO view(PublicFormPayload payload) throws Exception {
+        return objectMapper.readValue(payload.json(), FormPublicViewDTO.class);
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
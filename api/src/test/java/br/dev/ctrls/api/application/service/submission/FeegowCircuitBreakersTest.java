@@ -0,0 +1,121 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários do circuito/bulkhead do Feegow por clínica.
+ */
+class FeegowCircuitBreakersTest {
+
+    private static final UUID CLINIC_A = UUID.randomUUID();
+    private static final UUID CLINIC_B = UUID.randomUUID();
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private FeegowCircuitBreakers circuitBreakers;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(30))
+                .recordExceptions(FeignException.FeignServerException.class, FeignException.Unauthorized.class)
+                .ignoreExceptions(FeegowTransientException.class)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        circuitBreakers = new FeegowCircuitBreakers(circuitBreakerRegistry, bulkheadRegistry);
+    }
+
+    @Test
+    void shouldOpenOnlyTheFailingClinicAndParkWithOpenWait() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> circuitBreakers.execute(CLINIC_A, "resolve", () -> {
+                throw unauthorized();
+            })).isInstanceOf(FeignException.Unauthorized.class);
+        }
+
+        assertThatThrownBy(() -> circuitBreakers.execute(CLINIC_A, "resolve", () -> "nunca chamado"))
+                .isInstanceOfSatisfying(FeegowUnavailableException.class,
+                        ex -> assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(30)));
+        assertThat(circuitBreakerRegistry.circuitBreaker("feegow-" + CLINIC_A).getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+
+        // Outra clínica segue normalmente
+        assertThat(circuitBreakers.execute(CLINIC_B, "resolve", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void shouldNotCountLocalSheddingAsFailure() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> circuitBreakers.execute(CLINIC_A, "upload", () -> {
+                throw new FeegowTransientException("upload", "limite", null);
+            })).isInstanceOf(FeegowTransientException.class);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker("feegow-" + CLINIC_A).getState())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldRejectWhenClinicBulkheadIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> circuitBreakers.isolate(CLINIC_A, "upload", () -> {
+                started.countDown();
+                await(release);
+                return null;
+            }));
+            started.await();
+
+            assertThatThrownBy(() -> circuitBreakers.isolate(CLINIC_A, "upload", () -> "ok"))
+                    .isInstanceOfSatisfying(FeegowUnavailableException.class,
+                            ex -> assertThat(ex.getRetryAfter()).isNull());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static FeignException unauthorized() {
+        Request request = Request.create(Request.HttpMethod.GET, "/patient/search", Map.of(),
+                null, StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("listPatients", feign.Response.builder()
+                .status(401)
+                .request(request)
+                .headers(Map.of())
+                .build());
+    }
+}
@@ -0,0 +1,125 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.client.feegow.FeegowClient;
+import br.dev.ctrls.api.client.feegow.dto.UploadFileRequest;
+import br.dev.ctrls.api.infrastructure.config.props.IntegrationProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários da ordem das proteções do Feegow: esperas na cota e no limite
+ * adaptativo não ocupam permissões do bulkhead.
+ */
+class FeegowIntegrationServiceTest {
+
+    private static final UUID CLINIC = UUID.randomUUID();
+    private static final UploadFileRequest UPLOAD = new UploadFileRequest(1L, new byte[0], "anamnese.pdf");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private FeegowClient feegowClient;
+    private FeegowQuotaLimiter quotaLimiter;
+    private BulkheadRegistry bulkheadRegistry;
+    private FeegowIntegrationService service;
+
+    @BeforeEach
+    void setUp() {
+        feegowClient = mock(FeegowClient.class);
+        quotaLimiter = mock(FeegowQuotaLimiter.class);
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        IntegrationProperties properties = new IntegrationProperties();
+        IntegrationProperties.Concurrency concurrency = properties.getFeegow().getConcurrency();
+        concurrency.setInitialLimit(1);
+        concurrency.setMinLimit(1);
+        concurrency.setMaxLimit(1);
+        concurrency.setMaxWaitMs(5000);
+        service = new FeegowIntegrationService(feegowClient,
+                new FeegowConcurrencyLimiter(properties, meterRegistry),
+                new FeegowCircuitBreakers(CircuitBreakerRegistry.ofDefaults(), bulkheadRegistry),
+                quotaLimiter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldNotHoldBulkheadPermitWhileWaitingForQuota() throws Exception {
+        CountDownLatch waiting = new CountDownLatch(1);
+        CountDownLatch refill = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            waiting.countDown();
+            refill.await(5, TimeUnit.SECONDS);
+            return null;
+        }).doNothing().when(quotaLimiter).acquire(any(UUID.class), anyString(), anyString());
+        when(feegowClient.uploadPatientFile(anyString(), any(UploadFileRequest.class))).thenReturn(1L);
+
+        Future<?> waitingForToken = executor.submit(() -> service.uploadFile(CLINIC, "TOKEN", UPLOAD));
+        assertThat(waiting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // A chamada parada na cota não ocupa a única vaga do bulkhead
+        assertThat(bulkhead().getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+        service.uploadFile(CLINIC, "TOKEN", UPLOAD);
+
+        refill.countDown();
+        waitingForToken.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldWaitForLimiterInsteadOfFillingBulkhead() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch respond = new CountDownLatch(1);
+        when(feegowClient.uploadPatientFile(anyString(), any(UploadFileRequest.class)))
+                .thenAnswer(invocation -> {
+                    inFlight.countDown();
+                    respond.await(5, TimeUnit.SECONDS);
+                    return 1L;
+                })
+                .thenReturn(2L);
+
+        Future<?> first = executor.submit(() -> service.uploadFile(CLINIC, "TOKEN", UPLOAD));
+        assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Limite AIMD = 1: a segunda chamada espera vaga no limite, sem ser recusada pelo bulkhead
+        Thread second = Thread.ofVirtual().start(() -> service.uploadFile(CLINIC, "TOKEN", UPLOAD));
+        Thread.sleep(100);
+        assertThat(second.isAlive()).isTrue();
+
+        respond.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.join(5000);
+        assertThat(second.isAlive()).isFalse();
+        assertThat(bulkhead().getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    private Bulkhead bulkhead() {
+        return bulkheadRegistry.bulkhead("feegow-" + CLINIC);
+    }
+}
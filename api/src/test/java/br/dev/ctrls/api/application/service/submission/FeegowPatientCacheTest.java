@@ -0,0 +1,112 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários do cache CPF → paciente Feegow: chave HMAC e fallback entre camadas.
+ */
+class FeegowPatientCacheTest {
+
+    private static final String CPF = "12345678909";
+
+    private final UUID clinicId = UUID.randomUUID();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SubmissionRepository submissionRepository;
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private FeegowPatientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        submissionRepository = mock(SubmissionRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = newCache("segredo-a");
+    }
+
+    @Test
+    void shouldDeriveStableKeyWithoutPlainCpf() {
+        String key = cache.key(clinicId, CPF);
+
+        assertThat(cache.key(clinicId, CPF)).isEqualTo(key);
+        assertThat(cache.key(clinicId, "123.456.789-09")).isEqualTo(key);
+        assertThat(key).startsWith(clinicId + ":").doesNotContain(CPF);
+    }
+
+    @Test
+    void shouldDeriveDifferentKeyForDifferentSecret() {
+        assertThat(newCache("segredo-b").key(clinicId, CPF)).isNotEqualTo(cache.key(clinicId, CPF));
+    }
+
+    @Test
+    void shouldRefuseToStartWithoutSecret() {
+        assertThatThrownBy(() -> newCache(" "))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("key-secret");
+    }
+
+    @Test
+    void shouldFallBackToDatabaseAndPopulateUpperLayers() {
+        when(submissionRepository.findLatestFeegowPatientId(clinicId, CPF)).thenReturn(Optional.of("777"));
+
+        assertThat(cache.find(clinicId, CPF)).contains(777L);
+        verify(valueOperations).set(eq("feegow:patient:" + cache.key(clinicId, CPF)), eq("777"),
+                any(Duration.class));
+
+        // Segunda consulta: near cache, sem Redis nem banco
+        assertThat(cache.find(clinicId, CPF)).contains(777L);
+        verify(valueOperations).get(anyString());
+        assertThat(counter("database")).isEqualTo(1.0);
+        assertThat(counter("local")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldServeFromRedisBeforeDatabase() {
+        when(valueOperations.get("feegow:patient:" + cache.key(clinicId, CPF))).thenReturn("555");
+
+        assertThat(cache.find(clinicId, CPF)).contains(555L);
+        verify(submissionRepository, never()).findLatestFeegowPatientId(any(UUID.class), anyString());
+        assertThat(counter("redis")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldTreatRedisFailureAsMiss() {
+        when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("Redis fora"));
+        when(submissionRepository.findLatestFeegowPatientId(clinicId, CPF)).thenReturn(Optional.empty());
+
+        assertThat(cache.find(clinicId, CPF)).isEmpty();
+        assertThat(counter("miss")).isEqualTo(1.0);
+    }
+
+    private FeegowPatientCache newCache(String secret) {
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.getPatientCache().setKeySecret(secret);
+        return new FeegowPatientCache(submissionRepository, redisTemplate, properties, meterRegistry);
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("feegow.patient.cache").tag("result", result).counter().count();
+    }
+}
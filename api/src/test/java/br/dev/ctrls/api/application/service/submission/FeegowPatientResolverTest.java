@@ -0,0 +1,97 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários da coalescência de resolvePatient por (clínica, CPF).
+ */
+class FeegowPatientResolverTest {
+
+    private static final UUID CLINIC = UUID.randomUUID();
+    private static final String CPF = "11122233344";
+
+    private FeegowIntegrationService feegowService;
+    private FeegowPatientCache patientCache;
+    private ValueOperations<String, String> valueOperations;
+    private FeegowPatientResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        feegowService = mock(FeegowIntegrationService.class);
+        patientCache = mock(FeegowPatientCache.class);
+        // Tipo inferido da declaração: sem mock do tipo cru
+        valueOperations = mock();
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(patientCache.find(CLINIC, CPF)).thenReturn(Optional.empty());
+        when(patientCache.key(CLINIC, CPF)).thenReturn(CLINIC + ":hmac");
+
+        resolver = new FeegowPatientResolver(feegowService, patientCache, redisTemplate,
+                new SubmissionProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentLookupsForSameCpf() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(feegowService.resolvePatient(eq(CLINIC), anyString(), eq(CPF), anyString())).thenAnswer(invocation -> {
+            release.await();
+            return 999L;
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(pool.submit(() -> resolver.resolve(CLINIC, "TOKEN", CPF, "Fulano")));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Long> result : results) {
+                assertThat(result.get()).isEqualTo(999L);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(feegowService, times(1)).resolvePatient(eq(CLINIC), anyString(), eq(CPF), anyString());
+        verify(patientCache).put(CLINIC, CPF, 999L);
+    }
+
+    @Test
+    void shouldWaitForOtherNodeWhenLockIsHeld() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(patientCache.find(CLINIC, CPF)).thenReturn(Optional.empty()).thenReturn(Optional.of(777L));
+
+        assertThat(resolver.resolve(CLINIC, "TOKEN", CPF, "Fulano")).isEqualTo(777L);
+        verify(feegowService, never()).resolvePatient(any(), anyString(), anyString(), anyString());
+    }
+}
@@ -0,0 +1,94 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.client.feegow.FeegowClient;
+import br.dev.ctrls.api.client.feegow.dto.UploadFileRequest;
+import br.dev.ctrls.api.infrastructure.config.props.IntegrationProperties;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários da cota compartilhada do Feegow (fallback sem Redis, métrica e ordem no circuito).
+ */
+class FeegowQuotaLimiterTest {
+
+    private static final UUID CLINIC = UUID.randomUUID();
+
+    private SimpleMeterRegistry meterRegistry;
+    private BucketProxy bucket;
+    private FeegowQuotaLimiter quotaLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bucket = mock(BucketProxy.class, RETURNS_DEEP_STUBS);
+        RemoteBucketBuilder<byte[]> builder = mock();
+        ProxyManager<byte[]> proxyManager = mock();
+        when(proxyManager.builder()).thenReturn(builder);
+        when(builder.build(any(byte[].class), ArgumentMatchers.<Supplier<BucketConfiguration>>any())).thenReturn(bucket);
+
+        quotaLimiter = new FeegowQuotaLimiter(proxyManager, new IntegrationProperties(), meterRegistry);
+    }
+
+    @Test
+    void shouldReportRemainingTokensWithoutQueryingRedisOnScrape() {
+        when(bucket.tryConsumeAndReturnRemaining(1)).thenReturn(ConsumptionProbe.consumed(7, 0));
+
+        quotaLimiter.acquire(CLINIC, "TOKEN", "upload");
+
+        assertThat(meterRegistry.get("feegow.quota.available").gauge().value()).isEqualTo(7.0);
+        verify(bucket, never()).getAvailableTokens();
+    }
+
+    @Test
+    void shouldFallBackWhenRedisFailsWhileEstimatingRefill() throws Exception {
+        when(bucket.tryConsumeAndReturnRemaining(1)).thenReturn(ConsumptionProbe.rejected(0, 1_000_000, 0));
+        when(bucket.asBlocking().tryConsume(anyLong(), any(Duration.class))).thenReturn(false);
+        when(bucket.estimateAbilityToConsume(1)).thenThrow(new IllegalStateException("Redis fora do ar"));
+
+        // Falha do Redis libera a chamada em vez de virar erro genérico
+        quotaLimiter.acquire(CLINIC, "TOKEN", "upload");
+    }
+
+    @Test
+    void shouldNotSpendQuotaWhileCircuitIsOpen() {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .ignoreExceptions(FeegowTransientException.class)
+                .build());
+        circuitBreakerRegistry.circuitBreaker("feegow-" + CLINIC).transitionToOpenState();
+        FeegowQuotaLimiter quota = mock(FeegowQuotaLimiter.class);
+        FeegowIntegrationService service = new FeegowIntegrationService(mock(FeegowClient.class),
+                new FeegowConcurrencyLimiter(new IntegrationProperties(), meterRegistry),
+                new FeegowCircuitBreakers(circuitBreakerRegistry, BulkheadRegistry.ofDefaults()),
+                quota);
+
+        assertThatThrownBy(() -> service.uploadFile(CLINIC, "TOKEN",
+                new UploadFileRequest(1L, new byte[0], "anamnese.pdf")))
+                .isInstanceOf(FeegowUnavailableException.class);
+        verify(quota, never()).acquire(any(), anyString(), anyString());
+    }
+}
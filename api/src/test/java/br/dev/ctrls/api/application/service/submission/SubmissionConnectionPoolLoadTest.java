@@ -0,0 +1,140 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.BaseIntegrationTest;
+import br.dev.ctrls.api.client.feegow.FeegowClient;
+import br.dev.ctrls.api.client.feegow.dto.FeegowPatientRequest;
+import br.dev.ctrls.api.client.feegow.dto.FeegowPatientResponse;
+import br.dev.ctrls.api.client.feegow.dto.UploadFileRequest;
+import br.dev.ctrls.api.domain.clinic.Clinic;
+import br.dev.ctrls.api.domain.clinic.repository.ClinicRepository;
+import br.dev.ctrls.api.domain.form.FormTemplate;
+import br.dev.ctrls.api.domain.form.repository.FormTemplateRepository;
+import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.web.dto.SubmissionRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Teste de carga: vazão limitada pela latência do Feegow, não pelo pool Hikari.
+ *
+ * CENÁRIO:
+ * - Pool Hikari com apenas 2 conexões
+ * - Feegow simulado com 200 ms em listPatients e 200 ms no upload
+ * - 20 workers no estágio resolve e 20 no upload
+ *
+ * Se uma conexão ficasse presa durante o round-trip (~400 ms), o teto seria
+ * 2 / 0,4 s = 5 submissões/s. Com transações curtas a vazão deve passar bem disso.
+ *
+ * Executar com: ./mvnw test -Pbenchmark -Dtest=SubmissionConnectionPoolLoadTest
+ */
+@Tag("benchmark")
+@DirtiesContext
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=2",
+        "submission.executor.core-pool-size=20",
+        "submission.executor.max-pool-size=20",
+        "submission.executor.queue-capacity=200",
+        "submission.pipeline.upload.threads=20",
+        "submission.outbox.poll-interval-ms=100"
+})
+class SubmissionConnectionPoolLoadTest extends BaseIntegrationTest {
+
+    private static final int SUBMISSIONS = 100;
+    private static final long FEEGOW_LATENCY_MS = 200;
+    private static final int POOL_SIZE = 2;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private ClinicRepository clinicRepository;
+
+    @Autowired
+    private FormTemplateRepository formTemplateRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @MockitoBean
+    private FeegowClient feegowClient;
+
+    @MockitoBean
+    private br.dev.ctrls.api.application.service.document.PdfService pdfService;
+
+    private FormTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        submissionRepository.deleteAll();
+        formTemplateRepository.deleteAll();
+
+        Clinic clinic = clinicRepository.save(Clinic.builder()
+                .name("Clínica Teste Carga")
+                .cnpj("98765432109876")
+                .address("Rua Carga, 200")
+                .feegowApiToken("LOAD_TOKEN")
+                .build());
+
+        template = formTemplateRepository.save(FormTemplate.builder()
+                .clinic(clinic)
+                .title("Anamnese Carga")
+                .description("Formulário para teste de carga")
+                .schemaJson("{\"fields\": [\"sintomas\"]}")
+                .active(true)
+                .build());
+    }
+
+    @Test
+    void throughputShouldNotBeBoundByConnectionPool() throws Exception {
+        when(feegowClient.listPatients(anyString(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(FEEGOW_LATENCY_MS);
+            return new FeegowPatientResponse(List.of());
+        });
+        when(feegowClient.createPatient(anyString(), any(FeegowPatientRequest.class))).thenReturn(1L);
+        when(feegowClient.uploadPatientFile(anyString(), any(UploadFileRequest.class))).thenAnswer(invocation -> {
+            Thread.sleep(FEEGOW_LATENCY_MS);
+            return 1L;
+        });
+        when(pdfService.generateAnamnesisPdf(any(), any())).thenReturn(new byte[]{1, 2, 3});
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            String cpf = String.format("%011d", i);
+            submissionService.submitForm(template.getPublicUuid(), new SubmissionRequest(
+                    new SubmissionRequest.Patient("Paciente " + i, cpf, "M", "01/01/1990"),
+                    "{\"sintomas\": \"nenhum\"}"));
+        }
+
+        await()
+                .atMost(60, TimeUnit.SECONDS)
+                .pollInterval(200, TimeUnit.MILLISECONDS)
+                .until(() -> submissionRepository.findAll().stream()
+                        .filter(submission -> submission.getStatus() == SubmissionStatus.PROCESSED)
+                        .count() == SUBMISSIONS);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double throughput = SUBMISSIONS / seconds;
+        double connectionBoundCeiling = POOL_SIZE / (2 * FEEGOW_LATENCY_MS / 1000.0);
+
+        System.out.printf("%n[load] %d submissões em %.1f s: %.1f submissões/s (teto se a conexão ficasse presa: %.1f/s)%n",
+                SUBMISSIONS, seconds, throughput, connectionBoundCeiling);
+
+        assertThat(throughput).isGreaterThan(connectionBoundCeiling * 2);
+    }
+}
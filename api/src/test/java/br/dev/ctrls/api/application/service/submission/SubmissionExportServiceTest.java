@@ -0,0 +1,215 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.application.service.document.StoredPdf;
+import br.dev.ctrls.api.domain.submission.Submission;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários da exportação em ZIP (ordem, paginação por keyset e falhas parciais).
+ */
+class SubmissionExportServiceTest {
+
+    private static final UUID CLINIC = UUID.randomUUID();
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-02-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private SubmissionRepository submissionRepository;
+    private SubmissionPdfService submissionPdfService;
+    private SubmissionExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        submissionRepository = mock(SubmissionRepository.class);
+        submissionPdfService = mock(SubmissionPdfService.class);
+
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.getExport().setParallelism(2);
+        properties.getExport().setBatchSize(2);
+        exportService = new SubmissionExportService(submissionRepository, submissionPdfService, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportService.shutdown();
+    }
+
+    @Test
+    void shouldWriteEntriesInQueryOrderAcrossBatches() throws Exception {
+        Submission first = submission("Ana Souza", FROM.plusSeconds(60));
+        Submission second = submission("João/../Silva", FROM.plusSeconds(120));
+        Submission third = submission("Maria", FROM.plusSeconds(180));
+
+        when(submissionRepository.findExportBatch(eq(CLINIC), eq(FROM), eq(TO), eq(null),
+                eq(FROM.minusNanos(1)), any(UUID.class), any()))
+                .thenReturn(List.of(first, second));
+        when(submissionRepository.findExportBatch(eq(CLINIC), eq(FROM), eq(TO), eq(null),
+                eq(second.getCreatedAt()), eq(second.getId()), any()))
+                .thenReturn(List.of(third));
+
+        // O primeiro fica pronto por último: a ordem do ZIP segue a consulta, não a conclusão
+        when(submissionPdfService.pdfFor(first)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return pdf("primeiro");
+        });
+        when(submissionPdfService.pdfFor(second)).thenReturn(pdf("segundo"));
+        when(submissionPdfService.pdfFor(third)).thenReturn(pdf("terceiro"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int exported = exportService.exportZip(CLINIC, FROM, TO, null, out);
+
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertThat(exported).isEqualTo(3);
+        assertThat(entries.keySet()).containsExactly(
+                "2026-01-01_0001_Ana_Souza_" + first.getId().toString().substring(0, 8) + ".pdf",
+                "2026-01-01_0002_João..Silva_" + second.getId().toString().substring(0, 8) + ".pdf",
+                "2026-01-01_0003_Maria_" + third.getId().toString().substring(0, 8) + ".pdf");
+        assertThat(entries.values()).containsExactly("primeiro", "segundo", "terceiro");
+    }
+
+    @Test
+    void shouldListFailuresWithoutAbortingExport() throws Exception {
+        Submission ok = submission("Ana", FROM.plusSeconds(60));
+        Submission broken = submission("Bruno", FROM.plusSeconds(120));
+
+        when(submissionRepository.findExportBatch(eq(CLINIC), eq(FROM), eq(TO), eq(null),
+                eq(FROM.minusNanos(1)), any(UUID.class), any()))
+                .thenReturn(List.of(ok, broken));
+        when(submissionPdfService.pdfFor(ok)).thenReturn(pdf("ok"));
+        when(submissionPdfService.pdfFor(broken)).thenThrow(new IllegalStateException("Template inválido"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int exported = exportService.exportZip(CLINIC, FROM, TO, null, out);
+
+        List<String> names = new ArrayList<>(unzip(out.toByteArray()).keySet());
+        assertThat(exported).isEqualTo(1);
+        assertThat(names).hasSize(2).last().isEqualTo("ERROS.txt");
+        assertThat(unzip(out.toByteArray()).get("ERROS.txt"))
+                .isEqualTo(broken.getId() + " " + SubmissionExportService.entryName(broken) + ": Template inválido");
+    }
+
+    @Test
+    void shouldNameExceptionWhenFailureHasNoMessage() throws Exception {
+        Submission broken = submission("Bruno", FROM.plusSeconds(60));
+
+        when(submissionRepository.findExportBatch(eq(CLINIC), eq(FROM), eq(TO), eq(null),
+                eq(FROM.minusNanos(1)), any(UUID.class), any()))
+                .thenReturn(List.of(broken));
+        when(submissionPdfService.pdfFor(broken)).thenThrow(new NullPointerException());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportZip(CLINIC, FROM, TO, null, out);
+
+        assertThat(unzip(out.toByteArray()).get("ERROS.txt"))
+                .startsWith(broken.getId().toString())
+                .endsWith(": NullPointerException")
+                .doesNotContain("null");
+    }
+
+    @Test
+    void shouldInterruptInFlightTasksWhenClientDisconnects() throws Exception {
+        Submission first = submission("Ana", FROM.plusSeconds(60));
+        Submission slow = submission("Bruno", FROM.plusSeconds(120));
+
+        when(submissionRepository.findExportBatch(eq(CLINIC), eq(FROM), eq(TO), eq(null),
+                eq(FROM.minusNanos(1)), any(UUID.class), any()))
+                .thenReturn(List.of(first, slow));
+        when(submissionPdfService.pdfFor(first)).thenReturn(pdf("primeiro"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(submissionPdfService.pdfFor(slow)).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return pdf("lento");
+        });
+
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                assertThat(awaitQuietly(started)).isTrue();
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> exportService.exportZip(CLINIC, FROM, TO, null, disconnected))
+                .isInstanceOf(IOException.class);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Submission submission(String patientName, Instant createdAt) {
+        return Submission.builder()
+                .id(UUID.randomUUID())
+                .createdAt(createdAt)
+                .patientName(patientName)
+                .patientCpf("11122233344")
+                .answersJson("{}")
+                .build();
+    }
+
+    private StoredPdf pdf(String content) throws Exception {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        Path path = Files.write(directory.resolve(content + ".pdf"), bytes);
+        return new StoredPdf(content, path, bytes.length);
+    }
+
+    private static Map<String, String> unzip(byte[] zip) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,148 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import br.dev.ctrls.api.infrastructure.executor.SubmissionExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes unitários da seleção Deficit Round-Robin do escalonador justo.
+ * O dispatcher não é iniciado: a ordem é observada chamando pollNext() diretamente.
+ */
+class SubmissionFairSchedulerTest {
+
+    private static final UUID CLINIC_A = UUID.randomUUID();
+    private static final UUID CLINIC_B = UUID.randomUUID();
+
+    private SubmissionProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SubmissionProperties();
+    }
+
+    private SubmissionFairScheduler newScheduler() {
+        return new SubmissionFairScheduler(mock(SubmissionExecutor.class), mock(SubmissionSpillStore.class),
+                properties, new SimpleMeterRegistry());
+    }
+
+    private static SubmissionTask task(UUID clinicId) {
+        return new SubmissionTask(clinicId, () -> { });
+    }
+
+    private static List<UUID> drain(SubmissionFairScheduler scheduler, int count) {
+        List<UUID> order = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SubmissionFairScheduler.Entry entry = scheduler.pollNext();
+            order.add(entry == null ? null : entry.task().submissionId());
+        }
+        return order;
+    }
+
+    @Test
+    void shouldInterleaveClinicsInsteadOfServingBacklogFirst() {
+        SubmissionFairScheduler scheduler = newScheduler();
+        for (int i = 0; i < 5; i++) {
+            scheduler.enqueue(CLINIC_A, task(CLINIC_A));
+        }
+        scheduler.enqueue(CLINIC_B, task(CLINIC_B));
+
+        // B chega depois de 5 itens de A, mas é atendida na segunda posição
+        assertThat(drain(scheduler, 3)).containsExactly(CLINIC_A, CLINIC_B, CLINIC_A);
+    }
+
+    @Test
+    void shouldServeClinicsProportionallyToWeight() {
+        SubmissionProperties.ClinicShare share = new SubmissionProperties.ClinicShare();
+        share.setWeight(2);
+        properties.getFairness().getClinics().put(CLINIC_B.toString(), share);
+
+        SubmissionFairScheduler scheduler = newScheduler();
+        for (int i = 0; i < 6; i++) {
+            scheduler.enqueue(CLINIC_A, task(CLINIC_A));
+            scheduler.enqueue(CLINIC_B, task(CLINIC_B));
+        }
+
+        assertThat(drain(scheduler, 6))
+                .containsExactly(CLINIC_A, CLINIC_B, CLINIC_B, CLINIC_A, CLINIC_B, CLINIC_B);
+    }
+
+    @Test
+    void shouldSkipClinicAtInFlightCap() {
+        properties.getFairness().setDefaultMaxInFlight(1);
+
+        SubmissionFairScheduler scheduler = newScheduler();
+        scheduler.enqueue(CLINIC_A, task(CLINIC_A));
+        scheduler.enqueue(CLINIC_A, task(CLINIC_A));
+        scheduler.enqueue(CLINIC_B, task(CLINIC_B));
+
+        // A já tem 1 em execução e nenhuma tarefa termina: só B pode avançar
+        assertThat(drain(scheduler, 3)).containsExactly(CLINIC_A, CLINIC_B, null);
+        assertThat(scheduler.queuedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWhenClinicQueueIsFull() {
+        properties.getFairness().setDefaultMaxQueued(2);
+
+        SubmissionFairScheduler scheduler = newScheduler();
+
+        assertThat(scheduler.enqueue(CLINIC_A, task(CLINIC_A))).isTrue();
+        assertThat(scheduler.enqueue(CLINIC_A, task(CLINIC_A))).isTrue();
+        assertThat(scheduler.enqueue(CLINIC_A, task(CLINIC_A))).isFalse();
+        assertThat(scheduler.enqueue(CLINIC_B, task(CLINIC_B))).isTrue();
+    }
+
+    @Test
+    void shouldReleaseInFlightSlotWhenExecutorThrows() {
+        properties.getFairness().setDefaultMaxInFlight(1);
+        SubmissionExecutor executor = mock(SubmissionExecutor.class);
+        SubmissionSpillStore spillStore = mock(SubmissionSpillStore.class);
+        doThrow(new RejectedExecutionException("encerrando")).when(executor).execute(any());
+
+        SubmissionFairScheduler scheduler = new SubmissionFairScheduler(executor, spillStore,
+                properties, new SimpleMeterRegistry());
+        UUID rejected = UUID.randomUUID();
+        scheduler.enqueue(CLINIC_A, new SubmissionTask(rejected, () -> { }));
+        scheduler.enqueue(CLINIC_A, task(CLINIC_A));
+
+        scheduler.dispatch(scheduler.pollNext());
+
+        // A vaga de A voltou: o segundo item pode ser despachado
+        verify(spillStore).spill(rejected);
+        assertThat(drain(scheduler, 1)).containsExactly(CLINIC_A);
+    }
+
+    @Test
+    void shouldReleaseInFlightSlotWhenRejectionHandlerSpills() {
+        properties.getFairness().setDefaultMaxInFlight(1);
+        SubmissionExecutor executor = mock(SubmissionExecutor.class);
+        // Mesmo contrato do handler de AsyncConfig: transborda e avisa a tarefa
+        doAnswer(invocation -> {
+            invocation.<SubmissionTask>getArgument(0).rejected();
+            return null;
+        }).when(executor).execute(any());
+
+        SubmissionFairScheduler scheduler = new SubmissionFairScheduler(executor, mock(SubmissionSpillStore.class),
+                properties, new SimpleMeterRegistry());
+        scheduler.enqueue(CLINIC_A, task(CLINIC_A));
+        scheduler.enqueue(CLINIC_A, task(CLINIC_A));
+
+        scheduler.dispatch(scheduler.pollNext());
+
+        assertThat(drain(scheduler, 1)).containsExactly(CLINIC_A);
+    }
+}
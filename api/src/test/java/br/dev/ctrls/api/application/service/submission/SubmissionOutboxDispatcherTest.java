@@ -0,0 +1,98 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.application.event.SubmissionCreatedEvent;
+import br.dev.ctrls.api.domain.submission.SubmissionOutbox;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionOutboxRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários do poller do outbox limitado pela capacidade da fila de trabalho.
+ */
+class SubmissionOutboxDispatcherTest {
+
+    private SubmissionOutboxRepository outboxRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private SubmissionWorkQueue workQueue;
+    private SubmissionOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(SubmissionOutboxRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        workQueue = mock(SubmissionWorkQueue.class);
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.getOutbox().setBatchSize(10);
+        dispatcher = new SubmissionOutboxDispatcher(outboxRepository, eventPublisher, workQueue, properties,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldNotClaimWhenWorkQueueIsFull() {
+        when(workQueue.availableCapacity()).thenReturn(0);
+
+        dispatcher.poll();
+
+        verify(outboxRepository, never()).lockNextBatch(any(Instant.class), anyInt());
+        verify(eventPublisher, never()).publishEvent(any(SubmissionCreatedEvent.class));
+    }
+
+    @Test
+    void shouldClaimOnlyWhatFitsAndStopWhenCapacityRunsOut() {
+        // 4 vagas: o primeiro lote vem cheio e ocupa tudo; o restante fica no outbox
+        when(workQueue.availableCapacity()).thenReturn(4, 0);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt()))
+                .thenAnswer(invocation -> entries(invocation.getArgument(1)));
+
+        dispatcher.poll();
+
+        verify(outboxRepository, times(1)).lockNextBatch(any(Instant.class), anyInt());
+        verify(outboxRepository).lockNextBatch(any(Instant.class), eq(4));
+        verify(eventPublisher, times(4)).publishEvent(any(SubmissionCreatedEvent.class));
+    }
+
+    @Test
+    void shouldStopWhenOutboxReturnsPartialBatch() {
+        when(workQueue.availableCapacity()).thenReturn(1000);
+        when(outboxRepository.lockNextBatch(any(Instant.class), anyInt()))
+                .thenReturn(entries(10))
+                .thenReturn(entries(3));
+
+        dispatcher.poll();
+
+        verify(outboxRepository, times(2)).lockNextBatch(any(Instant.class), eq(10));
+        verify(eventPublisher, times(13)).publishEvent(any(SubmissionCreatedEvent.class));
+    }
+
+    private static List<SubmissionOutbox> entries(int count) {
+        return IntStream.range(0, count)
+                .<SubmissionOutbox>mapToObj(i -> SubmissionOutbox.builder()
+                        .submissionId(UUID.randomUUID())
+                        .clinicId(UUID.randomUUID())
+                        .createdAt(Instant.now().minusSeconds(1))
+                        .availableAt(Instant.now())
+                        .build())
+                .toList();
+    }
+}
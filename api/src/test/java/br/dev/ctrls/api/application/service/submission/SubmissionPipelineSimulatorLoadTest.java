@@ -0,0 +1,166 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.BaseIntegrationTest;
+import br.dev.ctrls.api.client.feegow.simulator.FeegowSimulator;
+import br.dev.ctrls.api.domain.clinic.Clinic;
+import br.dev.ctrls.api.domain.clinic.repository.ClinicRepository;
+import br.dev.ctrls.api.domain.form.FormTemplate;
+import br.dev.ctrls.api.domain.form.repository.FormTemplateRepository;
+import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.FeegowSimulatorProperties;
+import br.dev.ctrls.api.web.dto.SubmissionRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Teste de carga ponta a ponta contra o simulador do Feegow.
+ *
+ * Diferente do SubmissionConnectionPoolLoadTest, o FeegowClient é real: Feign,
+ * encoder do upload, pool HTTP, limiter e circuit breaker participam da medição.
+ *
+ * CENÁRIO:
+ * - Latência log-normal por rota (list 100/600 ms, create 150/900 ms, upload 300/2000 ms, mediana/p99)
+ * - 1% de 503 (exercita o retry não bloqueante)
+ * - 200 submissões de CPFs distintos em uma clínica
+ *
+ * Reporta vazão e latência ponta a ponta (created_at → updated_at) em p50/p99.
+ * O PDF é simulado: aqui interessa o custo de I/O do Feegow.
+ *
+ * Executar com: ./mvnw test -Pbenchmark -Dtest=SubmissionPipelineSimulatorLoadTest
+ */
+@Tag("benchmark")
+@DirtiesContext
+@TestPropertySource(properties = {
+        "submission.executor.core-pool-size=20",
+        "submission.executor.max-pool-size=20",
+        "submission.executor.queue-capacity=500",
+        "submission.pipeline.upload.threads=20",
+        "submission.outbox.poll-interval-ms=100",
+        "submission.retry.initial-delay-ms=200"
+})
+class SubmissionPipelineSimulatorLoadTest extends BaseIntegrationTest {
+
+    private static final int SUBMISSIONS = 200;
+
+    private static final FeegowSimulator SIMULATOR = new FeegowSimulator(simulatorProperties()).start();
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private ClinicRepository clinicRepository;
+
+    @Autowired
+    private FormTemplateRepository formTemplateRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @MockitoBean
+    private br.dev.ctrls.api.application.service.document.PdfService pdfService;
+
+    private FormTemplate template;
+
+    @DynamicPropertySource
+    static void feegowSimulator(DynamicPropertyRegistry registry) {
+        registry.add("integration.feegow.base-url", SIMULATOR::getBaseUrl);
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        SIMULATOR.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        submissionRepository.deleteAll();
+        formTemplateRepository.deleteAll();
+        SIMULATOR.reset();
+
+        Clinic clinic = clinicRepository.save(Clinic.builder()
+                .name("Clínica Simulador")
+                .cnpj("55544433322211")
+                .address("Rua Simulada, 300")
+                .feegowApiToken("SIMULATOR_TOKEN")
+                .build());
+
+        template = formTemplateRepository.save(FormTemplate.builder()
+                .clinic(clinic)
+                .title("Anamnese Simulador")
+                .description("Formulário para teste de carga com simulador")
+                .schemaJson("{\"fields\": [\"sintomas\"]}")
+                .active(true)
+                .build());
+    }
+
+    @Test
+    void endToEndThroughputAndTailLatency() {
+        when(pdfService.generateAnamnesisPdf(any(), any())).thenReturn(new byte[64 * 1024]);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            String cpf = String.format("%011d", i);
+            submissionService.submitForm(template.getPublicUuid(), new SubmissionRequest(
+                    new SubmissionRequest.Patient("Paciente " + i, cpf, "F", "01/01/1990"),
+                    "{\"sintomas\": \"nenhum\"}"));
+        }
+
+        await()
+                .atMost(180, TimeUnit.SECONDS)
+                .pollInterval(500, TimeUnit.MILLISECONDS)
+                .until(() -> submissionRepository.findAll().stream()
+                        .filter(submission -> submission.getStatus() == SubmissionStatus.PROCESSED)
+                        .count() == SUBMISSIONS);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        List<Long> latencies = submissionRepository.findAll().stream()
+                .map(submission -> Duration.between(submission.getCreatedAt(), submission.getUpdatedAt()).toMillis())
+                .sorted()
+                .toList();
+
+        System.out.printf("%n[simulator] %d submissões em %.1f s: %.1f submissões/s | p50=%d ms p99=%d ms | 503=%d 429=%d%n",
+                SUBMISSIONS, seconds, SUBMISSIONS / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                SIMULATOR.getResponseCount(503), SIMULATOR.getResponseCount(429));
+
+        assertThat(latencies).hasSize(SUBMISSIONS);
+    }
+
+    private static FeegowSimulatorProperties simulatorProperties() {
+        FeegowSimulatorProperties properties = new FeegowSimulatorProperties();
+        latency(properties.getList(), 100, 600);
+        latency(properties.getCreate(), 150, 900);
+        latency(properties.getUpload(), 300, 2000);
+        properties.getFaults().setUnavailableRate(0.01);
+        return properties;
+    }
+
+    private static void latency(FeegowSimulatorProperties.Latency latency, long medianMs, long p99Ms) {
+        latency.setDistribution(FeegowSimulatorProperties.Distribution.LOG_NORMAL);
+        latency.setMedianMs(medianMs);
+        latency.setP99Ms(p99Ms);
+    }
+
+    private static long percentile(List<Long> sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}
@@ -0,0 +1,103 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.Submission;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import br.dev.ctrls.api.infrastructure.executor.MemoryBudget;
+import br.dev.ctrls.api.infrastructure.executor.PipelineStage;
+import br.dev.ctrls.api.infrastructure.executor.SubmissionExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários do encadeamento dos estágios do pipeline de submissões.
+ */
+class SubmissionPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID submissionId = UUID.randomUUID();
+
+    private SubmissionEventHandler handler;
+    private SubmissionContext context;
+    private PipelineStage renderStage;
+    private PipelineStage uploadStage;
+    private PipelineStage commitStage;
+    private SubmissionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        handler = mock(SubmissionEventHandler.class);
+        context = mock(SubmissionContext.class);
+        when(context.getSubmissionId()).thenReturn(submissionId);
+        when(context.getSubmission()).thenReturn(mock(Submission.class));
+
+        renderStage = new PipelineStage("render", 1, 4, 5, meterRegistry);
+        uploadStage = new PipelineStage("upload", 1, 4, 5, meterRegistry);
+        commitStage = new PipelineStage("commit", 1, 4, 5, meterRegistry);
+        pipeline = new SubmissionPipeline(handler, mock(SubmissionExecutor.class),
+                renderStage, uploadStage, commitStage,
+                new MemoryBudget("render", 64L * 1024 * 1024, meterRegistry),
+                new SubmissionProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        renderStage.destroy();
+        uploadStage.destroy();
+        commitStage.destroy();
+    }
+
+    @Test
+    void shouldRunStagesInOrder() {
+        when(handler.load(submissionId)).thenReturn(Optional.of(context));
+
+        pipeline.run(submissionId);
+
+        verify(handler, timeout(5000)).complete(context);
+        InOrder order = inOrder(handler);
+        order.verify(handler).resolvePatient(context);
+        order.verify(handler).renderPdf(context);
+        order.verify(handler).upload(context);
+        order.verify(handler).complete(context);
+        verify(handler, never()).fail(any(UUID.class), any(Exception.class));
+    }
+
+    @Test
+    void shouldFailSubmissionAndSkipLaterStagesWhenStageThrows() {
+        when(handler.load(submissionId)).thenReturn(Optional.of(context));
+        IllegalStateException failure = new IllegalStateException("Feegow fora");
+        doThrow(failure).when(handler).upload(context);
+
+        pipeline.run(submissionId);
+
+        verify(handler, timeout(5000)).fail(submissionId, failure);
+        verify(handler, after(200).never()).complete(context);
+    }
+
+    @Test
+    void shouldFailSubmissionWhenResolveThrows() {
+        IllegalStateException failure = new IllegalStateException("Paciente inválido");
+        when(handler.load(submissionId)).thenReturn(Optional.of(context));
+        doThrow(failure).when(handler).resolvePatient(context);
+
+        pipeline.run(submissionId);
+
+        verify(handler).fail(submissionId, failure);
+        verify(handler, after(200).never()).renderPdf(context);
+    }
+}
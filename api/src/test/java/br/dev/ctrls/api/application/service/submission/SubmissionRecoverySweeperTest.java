@@ -0,0 +1,95 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.Submission;
+import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários do sweeper de recuperação: limite de recolhimentos de ERROR temporário.
+ */
+class SubmissionRecoverySweeperTest {
+
+    private SubmissionRepository submissionRepository;
+    private SubmissionWorkQueue workQueue;
+    private SubmissionRecoverySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        submissionRepository = mock(SubmissionRepository.class);
+        workQueue = mock(SubmissionWorkQueue.class);
+        SubmissionLeaseService leaseService = mock(SubmissionLeaseService.class);
+        when(leaseService.getOwner()).thenReturn("replica-a");
+
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.getRecovery().setMaxErrorRecoveries(3);
+        sweeper = new SubmissionRecoverySweeper(submissionRepository, leaseService, workQueue, properties,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldRecoverErrorWithExhaustedRetriesAndCountRecovery() {
+        // Retries esgotados (max-retries=5): 6 claims em attempts, nenhum recolhimento ainda
+        Submission exhausted = Submission.builder()
+                .id(UUID.randomUUID())
+                .status(SubmissionStatus.ERROR)
+                .attempts(6)
+                .retryCount(5)
+                .errorRetryable(true)
+                .build();
+        when(submissionRepository.lockStaleForRecovery(any(Instant.class), any(Instant.class), any(Instant.class),
+                anyInt(), anyInt())).thenReturn(List.of(exhausted));
+
+        assertThat(sweeper.claimStale(10)).containsExactly(exhausted.getId());
+
+        // O teto vai contra error_recoveries, não contra attempts
+        verify(submissionRepository).lockStaleForRecovery(any(Instant.class), any(Instant.class), any(Instant.class),
+                eq(3), eq(10));
+        assertThat(exhausted.getStatus()).isEqualTo(SubmissionStatus.PENDING);
+        assertThat(exhausted.getErrorRecoveries()).isEqualTo(1);
+        assertThat(exhausted.getLeaseOwner()).isEqualTo("replica-a");
+    }
+
+    @Test
+    void shouldNotCountAbandonedProcessingAsErrorRecovery() {
+        Submission abandoned = Submission.builder()
+                .id(UUID.randomUUID())
+                .status(SubmissionStatus.PROCESSING)
+                .attempts(1)
+                .build();
+        when(submissionRepository.lockStaleForRecovery(any(Instant.class), any(Instant.class), any(Instant.class),
+                anyInt(), anyInt())).thenReturn(List.of(abandoned));
+
+        sweeper.claimStale(10);
+
+        assertThat(abandoned.getStatus()).isEqualTo(SubmissionStatus.PENDING);
+        assertThat(abandoned.getErrorRecoveries()).isZero();
+    }
+
+    @Test
+    void shouldNotClaimWithoutCapacity() {
+        when(workQueue.availableCapacity()).thenReturn(0);
+
+        sweeper.sweep();
+
+        verify(submissionRepository, never()).lockStaleForRecovery(any(Instant.class), any(Instant.class),
+                any(Instant.class), anyInt(), anyInt());
+    }
+}
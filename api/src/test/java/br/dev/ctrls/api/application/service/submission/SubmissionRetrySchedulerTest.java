@@ -0,0 +1,153 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.Submission;
+import br.dev.ctrls.api.domain.submission.SubmissionOutbox;
+import br.dev.ctrls.api.domain.submission.SubmissionStatus;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionOutboxRepository;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários do agendamento de retries e do estacionamento de submissões.
+ */
+class SubmissionRetrySchedulerTest {
+
+    private static final String OWNER = "replica-a";
+
+    private final UUID submissionId = UUID.randomUUID();
+
+    private SubmissionRepository submissionRepository;
+    private SubmissionOutboxRepository outboxRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private SubmissionRetryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        submissionRepository = mock(SubmissionRepository.class);
+        outboxRepository = mock(SubmissionOutboxRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        SubmissionLeaseService leaseService = mock(SubmissionLeaseService.class);
+        when(leaseService.getOwner()).thenReturn(OWNER);
+
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.getRetry().setMaxRetries(3);
+        properties.getRetry().setInitialDelayMs(1000);
+        properties.getRetry().setMultiplier(2.0);
+        properties.getRetry().setMaxDelayMs(5000);
+        scheduler = new SubmissionRetryScheduler(submissionRepository, outboxRepository, leaseService, properties,
+                mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    void shouldGrowBackoffExponentiallyWithinJitterBounds() {
+        for (int i = 0; i < 200; i++) {
+            assertThat(scheduler.backoffMillis(1)).isBetween(500L, 1000L);
+            assertThat(scheduler.backoffMillis(2)).isBetween(1000L, 2000L);
+            assertThat(scheduler.backoffMillis(3)).isBetween(2000L, 4000L);
+        }
+    }
+
+    @Test
+    void shouldCapBackoffAtMaxDelay() {
+        for (int i = 0; i < 200; i++) {
+            assertThat(scheduler.backoffMillis(10)).isBetween(2500L, 5000L);
+        }
+    }
+
+    @Test
+    void shouldHonourRetryAfterWhenParking() {
+        for (int i = 0; i < 200; i++) {
+            assertThat(scheduler.parkMillis(Duration.ofSeconds(10))).isBetween(10_000L, 15_000L);
+            // Sem prazo informado (bulkhead cheio): atraso inicial
+            assertThat(scheduler.parkMillis(null)).isBetween(1000L, 1500L);
+        }
+    }
+
+    @Test
+    void shouldScheduleRetryAndDelayOutboxEntry() {
+        givenSubmission(1);
+        SubmissionOutbox entry = SubmissionOutbox.builder().submissionId(submissionId).build();
+        when(outboxRepository.findBySubmissionId(submissionId)).thenReturn(Optional.of(entry));
+        when(submissionRepository.releaseForRetry(eq(submissionId), eq(OWNER), eq("PENDING"), eq(2),
+                any(Instant.class), anyString(), any(Instant.class))).thenReturn(1);
+
+        assertThat(scheduler.schedule(submissionId, transientFailure())).isTrue();
+
+        verify(outboxRepository).save(entry);
+        assertThat(entry.getAvailableAt()).isAfter(Instant.now());
+        assertThat(meterRegistry.get("submission.retry.scheduled").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldReportExhaustedRetriesWithoutTouchingSubmission() {
+        givenSubmission(3);
+
+        assertThat(scheduler.schedule(submissionId, transientFailure())).isFalse();
+
+        verify(submissionRepository, never()).releaseForRetry(any(UUID.class), anyString(), anyString(), anyInt(),
+                any(Instant.class), anyString(), any(Instant.class));
+        assertThat(meterRegistry.get("submission.retry.exhausted").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldParkWithoutConsumingRetry() {
+        givenSubmission(2);
+        when(outboxRepository.findBySubmissionId(submissionId))
+                .thenReturn(Optional.of(SubmissionOutbox.builder().submissionId(submissionId).build()));
+        when(submissionRepository.releaseForRetry(eq(submissionId), eq(OWNER), eq("PARKED"), anyInt(),
+                any(Instant.class), anyString(), any(Instant.class))).thenReturn(1);
+
+        scheduler.park(submissionId, new FeegowUnavailableException("createPatient", "Circuito aberto",
+                Duration.ofSeconds(30), null));
+
+        verify(submissionRepository).releaseForRetry(eq(submissionId), eq(OWNER), eq("PARKED"), eq(2),
+                any(Instant.class), anyString(), any(Instant.class));
+    }
+
+    @Test
+    void shouldLeaveScheduleAloneWhenLeaseWasLost() {
+        givenSubmission(0);
+        when(submissionRepository.releaseForRetry(any(UUID.class), anyString(), anyString(), anyInt(),
+                any(Instant.class), anyString(), any(Instant.class))).thenReturn(0);
+
+        // Outra réplica assumiu: não é esgotamento, e o outbox dela fica intacto
+        assertThat(scheduler.schedule(submissionId, transientFailure())).isTrue();
+        scheduler.park(submissionId, new FeegowUnavailableException("createPatient", "Cota esgotada",
+                Duration.ofSeconds(1), null));
+
+        verify(outboxRepository, never()).save(any(SubmissionOutbox.class));
+    }
+
+    private void givenSubmission(int retryCount) {
+        Submission submission = Submission.builder()
+                .id(submissionId)
+                .status(SubmissionStatus.PROCESSING)
+                .leaseOwner(OWNER)
+                .retryCount(retryCount)
+                .build();
+        when(submissionRepository.findById(submissionId)).thenReturn(Optional.of(submission));
+    }
+
+    private static FeegowTransientException transientFailure() {
+        return new FeegowTransientException("uploadFile", "Feegow respondeu 503", null);
+    }
+}
@@ -157,7 +157,8 @@ public class SubmissionServiceTest extends BaseIntegrationTest {
         UUID submissionId = response.submissionId();
         Submission submissionInitial = submissionRepository.findById(submissionId)
                 .orElseThrow(() -> new AssertionError("Submissão não foi salva no banco"));
-        assertThat(submissionInitial.getStatus()).isEqualTo(SubmissionStatus.PENDING);
+        // O outbox pode já ter despachado e o worker reivindicado o lease (PROCESSING)
+        assertThat(submissionInitial.getStatus()).isIn(SubmissionStatus.PENDING, SubmissionStatus.PROCESSING);
         assertThat(submissionInitial.getPatientName()).isEqualTo("Fulano de Tal");
         assertThat(submissionInitial.getPatientCpf()).isEqualTo("11122233344");
 
@@ -192,7 +193,7 @@ public class SubmissionServiceTest extends BaseIntegrationTest {
 
         UploadFileRequest uploadRequest = uploadCaptor.getValue();
         assertThat(uploadRequest.patient_id()).isEqualTo(999L);
-        assertThat(uploadRequest.base64_file()).isNotBlank();
+        assertThat(uploadRequest.file()).containsExactly(1, 2, 3, 4, 5);
         assertThat(uploadRequest.filename()).startsWith("anamnese-");
     }
 
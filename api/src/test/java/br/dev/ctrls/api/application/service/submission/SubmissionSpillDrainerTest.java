@@ -0,0 +1,60 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários da drenagem do spill quando a fila de uma clínica está cheia.
+ */
+class SubmissionSpillDrainerTest {
+
+    private SubmissionSpillStore spillStore;
+    private SubmissionWorkQueue workQueue;
+    private SubmissionSpillDrainer drainer;
+
+    @BeforeEach
+    void setUp() {
+        spillStore = mock(SubmissionSpillStore.class);
+        workQueue = mock(SubmissionWorkQueue.class);
+
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.getSpill().setDrainBatchSize(2);
+        drainer = new SubmissionSpillDrainer(spillStore, workQueue, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldStopPassWhenClinicQueueRejects() {
+        // Capacidade global sobrando, mas a fila da clínica recusa tudo (e o spill nunca esvazia)
+        when(workQueue.availableCapacity()).thenReturn(1000);
+        when(spillStore.take(anyInt())).thenAnswer(invocation -> List.of(UUID.randomUUID(), UUID.randomUUID()));
+        when(workQueue.submit(any(UUID.class))).thenReturn(false);
+
+        assertThat(drainer.replay()).isZero();
+        verify(spillStore, times(1)).take(2);
+    }
+
+    @Test
+    void shouldKeepDrainingWhileBatchesAreAccepted() {
+        when(workQueue.availableCapacity()).thenReturn(1000);
+        when(spillStore.take(2))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .thenReturn(List.of(UUID.randomUUID()));
+        when(workQueue.submit(any(UUID.class))).thenReturn(true);
+
+        assertThat(drainer.replay()).isEqualTo(3);
+        verify(spillStore, times(2)).take(2);
+    }
+}
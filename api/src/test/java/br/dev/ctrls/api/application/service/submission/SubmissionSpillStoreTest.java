@@ -0,0 +1,66 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.domain.submission.SubmissionSpill;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionSpillRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários da fila persistente de transbordo.
+ */
+class SubmissionSpillStoreTest {
+
+    private SubmissionSpillRepository spillRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private SubmissionSpillStore spillStore;
+
+    @BeforeEach
+    void setUp() {
+        spillRepository = mock(SubmissionSpillRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        spillStore = new SubmissionSpillStore(spillRepository, mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    void shouldPersistAndCountSpilledSubmission() {
+        UUID submissionId = UUID.randomUUID();
+
+        spillStore.spill(submissionId);
+
+        verify(spillRepository).spill(submissionId);
+        assertThat(meterRegistry.get("submission.spill.spilled").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldTakeOldestAndRemoveThemFromSpill() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<SubmissionSpill> entries = List.of(entry(first), entry(second));
+        when(spillRepository.lockOldest(2)).thenReturn(entries);
+
+        assertThat(spillStore.take(2)).containsExactly(first, second);
+        verify(spillRepository).deleteAllInBatch(entries);
+    }
+
+    @Test
+    void shouldNotTouchDatabaseWithoutCapacity() {
+        assertThat(spillStore.take(0)).isEmpty();
+        verify(spillRepository, never()).lockOldest(anyInt());
+    }
+
+    private static SubmissionSpill entry(UUID submissionId) {
+        return SubmissionSpill.builder().submissionId(submissionId).build();
+    }
+}
@@ -0,0 +1,78 @@
+package br.dev.ctrls.api.application.service.submission;
+
+import br.dev.ctrls.api.application.event.SubmissionCreatedEvent;
+import br.dev.ctrls.api.domain.submission.repository.SubmissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários da porta de entrada do pipeline: enfileiramento por clínica e transbordo.
+ */
+class SubmissionWorkQueueTest {
+
+    private SubmissionFairScheduler scheduler;
+    private SubmissionSpillStore spillStore;
+    private SubmissionRepository submissionRepository;
+    private SubmissionWorkQueue workQueue;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = mock(SubmissionFairScheduler.class);
+        spillStore = mock(SubmissionSpillStore.class);
+        submissionRepository = mock(SubmissionRepository.class);
+        workQueue = new SubmissionWorkQueue(scheduler, mock(SubmissionPipeline.class), spillStore, submissionRepository);
+    }
+
+    @Test
+    void shouldEnqueueOnClinicQueue() {
+        UUID submissionId = UUID.randomUUID();
+        UUID clinicId = UUID.randomUUID();
+        when(scheduler.enqueue(eq(clinicId), any(SubmissionTask.class))).thenReturn(true);
+
+        assertThat(workQueue.submit(submissionId, clinicId)).isTrue();
+        verify(spillStore, never()).spill(any(UUID.class));
+    }
+
+    @Test
+    void shouldSpillWhenClinicQueueIsFull() {
+        UUID submissionId = UUID.randomUUID();
+        UUID clinicId = UUID.randomUUID();
+        when(scheduler.enqueue(eq(clinicId), any(SubmissionTask.class))).thenReturn(false);
+
+        assertThat(workQueue.submit(submissionId, clinicId)).isFalse();
+        verify(spillStore).spill(submissionId);
+    }
+
+    @Test
+    void shouldResolveClinicWhenEventHasNone() {
+        UUID submissionId = UUID.randomUUID();
+        UUID clinicId = UUID.randomUUID();
+        when(submissionRepository.findClinicIdById(submissionId)).thenReturn(Optional.of(clinicId));
+        when(scheduler.enqueue(eq(clinicId), any(SubmissionTask.class))).thenReturn(true);
+
+        workQueue.onSubmissionCreated(new SubmissionCreatedEvent(this, submissionId, null));
+
+        verify(scheduler).enqueue(eq(clinicId), any(SubmissionTask.class));
+    }
+
+    @Test
+    void shouldIgnoreMissingSubmissionWithoutSpilling() {
+        UUID submissionId = UUID.randomUUID();
+        when(submissionRepository.findClinicIdById(submissionId)).thenReturn(Optional.empty());
+
+        assertThat(workQueue.submit(submissionId)).isTrue();
+        verify(scheduler, never()).enqueue(any(UUID.class), any(SubmissionTask.class));
+        verify(spillStore, never()).spill(any(UUID.class));
+    }
+}
@@ -0,0 +1,36 @@
+package br.dev.ctrls.api.client.feegow;
+
+import br.dev.ctrls.api.infrastructure.config.props.IntegrationProperties;
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Testes unitários da escolha do transporte HTTP do FeegowClient.
+ */
+class FeegowClientConfigTest {
+
+    private final IntegrationProperties properties = new IntegrationProperties();
+    private final FeegowClientConfig config = new FeegowClientConfig();
+
+    @Test
+    void shouldUsePooledApacheClientByDefault() {
+        Client client = config.feignClient(properties, mock(CloseableHttpClient.class));
+
+        assertThat(client).isInstanceOf(ApacheHttp5Client.class);
+    }
+
+    @Test
+    void shouldUseJdkClientForHttp2() {
+        properties.getFeegow().getHttp().setVersion(IntegrationProperties.Http.Version.HTTP_2);
+
+        Client client = config.feignClient(properties, mock(CloseableHttpClient.class));
+
+        assertThat(client).isInstanceOf(Http2Client.class);
+    }
+}
@@ -0,0 +1,82 @@
+package br.dev.ctrls.api.client.feegow;
+
+import br.dev.ctrls.api.client.feegow.dto.UploadFileRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de alocação por upload: JSON via String base64 + Jackson vs FeegowUploadEncoder.
+ *
+ * Mede os bytes alocados pela thread (com.sun.management.ThreadMXBean) para
+ * serializar o corpo de um upload de PDF de 2 MB.
+ *
+ * Executar com: ./mvnw test -Pbenchmark -Dtest=FeegowUploadEncoderBenchmarkTest
+ */
+@Tag("benchmark")
+class FeegowUploadEncoderBenchmarkTest {
+
+    private static final int PDF_SIZE = 2 * 1024 * 1024;
+    private static final int ITERATIONS = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compareAllocationPerUpload() throws Exception {
+        byte[] pdf = new byte[PDF_SIZE];
+        new Random(7).nextBytes(pdf);
+        UploadFileRequest request = new UploadFileRequest(42L, pdf, "anamnese.pdf");
+
+        // Aquecimento (JIT e buffers internos do Jackson)
+        for (int i = 0; i < 5; i++) {
+            legacyBody(pdf);
+            FeegowUploadEncoder.toJson(request);
+        }
+
+        long legacy = allocatedPerCall(() -> legacyBody(pdf));
+        long streaming = allocatedPerCall(() -> FeegowUploadEncoder.toJson(request));
+
+        System.out.printf("%n[benchmark] PDF de %d KB%n", PDF_SIZE / 1024);
+        System.out.printf("[benchmark] String base64 + Jackson: %8d KB alocados por upload (%.1fx o PDF)%n",
+                legacy / 1024, (double) legacy / PDF_SIZE);
+        System.out.printf("[benchmark] FeegowUploadEncoder:     %8d KB alocados por upload (%.1fx o PDF)%n",
+                streaming / 1024, (double) streaming / PDF_SIZE);
+
+        assertThat(streaming).isLessThan(legacy / 2);
+    }
+
+    /**
+     * Caminho anterior: String base64 → objeto com a String → Jackson → byte[] do corpo.
+     */
+    private byte[] legacyBody(byte[] pdf) {
+        try {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("patient_id", 42L);
+            body.put("base64_file", Base64.getEncoder().encodeToString(pdf));
+            body.put("filename", "anamnese.pdf");
+            return objectMapper.writeValueAsBytes(body);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static long allocatedPerCall(Runnable call) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+}
@@ -0,0 +1,39 @@
+package br.dev.ctrls.api.client.feegow;
+
+import br.dev.ctrls.api.client.feegow.dto.UploadFileRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários do JSON gerado pelo FeegowUploadEncoder.
+ */
+class FeegowUploadEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldProduceSameJsonAsJacksonWithBase64String() throws Exception {
+        for (int size : new int[]{0, 1, 2, 3, 1000, 65_537}) {
+            byte[] file = new byte[size];
+            new Random(size).nextBytes(file);
+
+            RequestTemplate template = new RequestTemplate();
+            new FeegowUploadEncoder((object, type, ignored) -> {
+                throw new AssertionError("Upload não deve ser delegado");
+            }).encode(new UploadFileRequest(42L, file, "anamnese \"1\".pdf"), UploadFileRequest.class, template);
+
+            JsonNode json = objectMapper.readTree(template.body());
+            assertThat(json.get("patient_id").asLong()).isEqualTo(42L);
+            assertThat(json.get("filename").asText()).isEqualTo("anamnese \"1\".pdf");
+            assertThat(Base64.getDecoder().decode(json.get("base64_file").asText())).isEqualTo(file);
+            assertThat(template.headers().get("Content-Type")).containsExactly("application/json");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package br.dev.ctrls.api.client.feegow.simulator;
+
+import br.dev.ctrls.api.infrastructure.config.props.FeegowSimulatorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários do simulador do Feegow (rotas, falhas injetadas e latência).
+ */
+class FeegowSimulatorTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private FeegowSimulator simulator;
+
+    @AfterEach
+    void tearDown() {
+        if (simulator != null) {
+            simulator.close();
+        }
+    }
+
+    @Test
+    void shouldCreateAndListPatientsPerToken() throws Exception {
+        simulator = new FeegowSimulator(new FeegowSimulatorProperties()).start();
+
+        assertThat(get("/patient/list?cpf=11122233344", "TOKEN_A").body()).contains("\"content\":[]");
+
+        HttpResponse<String> created = post("/patient", "TOKEN_A", "{\"cpf\":\"11122233344\",\"nome\":\"Ana\"}");
+        assertThat(created.statusCode()).isEqualTo(200);
+
+        assertThat(get("/patient/list?cpf=11122233344", "TOKEN_A").body()).contains("\"id\":" + created.body());
+        // Outro token é outro tenant
+        assertThat(get("/patient/list?cpf=11122233344", "TOKEN_B").body()).contains("\"content\":[]");
+
+        assertThat(post("/patient/files", "TOKEN_A", "{\"file\":\"AQID\"}").statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldInjectConfiguredFaults() throws Exception {
+        FeegowSimulatorProperties properties = new FeegowSimulatorProperties();
+        properties.getFaults().setRevokedTokens(Set.of("REVOKED"));
+        properties.getFaults().setMaxUploadBytes(10);
+        properties.getFaults().setMaxRequestsPerSecond(3);
+        simulator = new FeegowSimulator(properties).start();
+
+        assertThat(get("/patient/list?cpf=1", "REVOKED").statusCode()).isEqualTo(401);
+        assertThat(post("/patient/files", "OK", "{\"file\":\"AAAAAAAAAAAA\"}").statusCode()).isEqualTo(413);
+
+        // 10 requisições cabem em no máximo duas janelas de 1 s: ao menos 4 recebem 429
+        int[] statuses = new int[10];
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i] = get("/patient/list?cpf=1", "BURST").statusCode();
+        }
+        assertThat(Arrays.stream(statuses).filter(status -> status == 429).count()).isGreaterThanOrEqualTo(4);
+        assertThat(simulator.getResponseCount(429)).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void logNormalLatencyShouldMatchMedianAndTail() {
+        FeegowSimulatorProperties.Latency latency = new FeegowSimulatorProperties.Latency();
+        latency.setDistribution(FeegowSimulatorProperties.Distribution.LOG_NORMAL);
+        latency.setMedianMs(100);
+        latency.setP99Ms(1000);
+
+        long[] samples = LongStream.range(0, 20_000).map(i -> FeegowSimulator.sampleMillis(latency)).sorted().toArray();
+
+        assertThat(samples[samples.length / 2]).isBetween(90L, 110L);
+        assertThat(samples[(int) (samples.length * 0.99)]).isBetween(800L, 1250L);
+    }
+
+    private HttpResponse<String> get(String path, String token) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(simulator.getBaseUrl() + path))
+                .header("x-access-token", token)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String token, String json) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(simulator.getBaseUrl() + path))
+                .header("x-access-token", token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,85 @@
+package br.dev.ctrls.api.infrastructure.config;
+
+import br.dev.ctrls.api.application.service.submission.SubmissionSpillStore;
+import br.dev.ctrls.api.application.service.submission.SubmissionTask;
+import br.dev.ctrls.api.infrastructure.config.props.SubmissionProperties;
+import br.dev.ctrls.api.infrastructure.executor.SubmissionExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes unitários do transbordo de submissões rejeitadas pelo executor, nos dois modos.
+ */
+class AsyncConfigTest {
+
+    @Test
+    void shouldSpillRejectedTaskInPlatformMode() throws Exception {
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.getExecutor().setCorePoolSize(1);
+        properties.getExecutor().setMaxPoolSize(1);
+        properties.getExecutor().setQueueCapacity(1);
+
+        assertRejectedTaskIsSpilled(properties);
+    }
+
+    @Test
+    void shouldSpillRejectedTaskInVirtualMode() throws Exception {
+        SubmissionProperties properties = new SubmissionProperties();
+        properties.getExecutor().setMode(SubmissionProperties.Executor.Mode.VIRTUAL);
+        properties.getExecutor().setMaxConcurrency(1);
+        properties.getExecutor().setQueueCapacity(1);
+
+        assertRejectedTaskIsSpilled(properties);
+    }
+
+    private void assertRejectedTaskIsSpilled(SubmissionProperties properties) throws Exception {
+        properties.getExecutor().setAwaitTerminationSeconds(5);
+        SubmissionSpillStore spillStore = mock(SubmissionSpillStore.class);
+        SubmissionExecutor executor = new AsyncConfig()
+                .submissionTaskExecutor(properties, spillStore, new SimpleMeterRegistry());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UUID running = UUID.randomUUID();
+        UUID queued = UUID.randomUUID();
+        UUID rejected = UUID.randomUUID();
+        AtomicBoolean rejectedHook = new AtomicBoolean();
+        try {
+            // Uma tarefa ocupa a única vaga de execução e outra a única vaga de fila
+            executor.execute(new SubmissionTask(running, () -> {
+                started.countDown();
+                awaitQuietly(release);
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            executor.execute(new SubmissionTask(queued, () -> { }));
+
+            executor.execute(new SubmissionTask(rejected, () -> { }, () -> rejectedHook.set(true)));
+
+            verify(spillStore).spill(rejected);
+            verify(spillStore, never()).spill(queued);
+            assertThat(rejectedHook).isTrue();
+        } finally {
+            release.countDown();
+            ((DisposableBean) executor).destroy();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.dev.ctrls.api.infrastructure.config;
+
+import br.dev.ctrls.api.infrastructure.config.props.IntegrationProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários do cliente HTTP com pool keep-alive do Feegow contra um servidor local.
+ */
+class FeegowHttpClientConfigTest {
+
+    private static final String BODY = "{\"success\":true}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IntegrationProperties properties = new IntegrationProperties();
+    private final FeegowHttpClientConfig config = new FeegowHttpClientConfig();
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/patient", exchange -> {
+            byte[] body = gzip(BODY);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        properties.getFeegow().getHttp().setMaxConnections(5);
+        properties.getFeegow().getHttp().setMaxConnectionsPerRoute(3);
+        connectionManager = config.feegowConnectionManager(properties, meterRegistry);
+        httpClient = config.feegowHttpClient(connectionManager, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        connectionManager.close();
+        server.stop(0);
+    }
+
+    @Test
+    void shouldSizePoolFromProperties() {
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(5);
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(3);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "feegow").gauge().value()).isEqualTo(5.0);
+    }
+
+    @Test
+    void shouldReuseKeepAliveConnection() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            assertThat(get()).isEqualTo(BODY);
+        }
+
+        assertThat(meterRegistry.get("feegow.http.requests").counter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("feegow.http.connections.created").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldDecompressGzipResponse() throws IOException {
+        // O corpo chega compactado; o cliente descompacta de forma transparente
+        assertThat(get()).isEqualTo(BODY);
+    }
+
+    private String get() throws IOException {
+        String uri = "http://127.0.0.1:" + server.getAddress().getPort() + "/patient";
+        return httpClient.execute(new HttpGet(uri),
+                response -> EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8));
+    }
+
+    private static byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,89 @@
+package br.dev.ctrls.api.infrastructure.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários da admissão ponderada por memória.
+ */
+class MemoryBudgetTest {
+
+    private static final long MIB = 1024 * 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldKeepConcurrentTasksWithinBudget() throws Exception {
+        MemoryBudget budget = new MemoryBudget("render", 4 * MIB, meterRegistry);
+        AtomicLong inUse = new AtomicLong();
+        AtomicLong peak = new AtomicLong();
+
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 32; i++) {
+                threads.submit(() -> budget.run(MIB, () -> {
+                    peak.accumulateAndGet(inUse.addAndGet(MIB), Math::max);
+                    sleep(5);
+                    inUse.addAndGet(-MIB);
+                }));
+            }
+        } finally {
+            threads.shutdown();
+            assertThat(threads.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(peak.get()).isEqualTo(4 * MIB);
+        assertThat(budget.inUseBytes()).isZero();
+        assertThat(meterRegistry.get("submission.memory.admission.wait").tag("budget", "render").timer().count())
+                .isEqualTo(32);
+    }
+
+    @Test
+    void shouldAdmitOversizedTaskAlone() throws Exception {
+        MemoryBudget budget = new MemoryBudget("render", 2 * MIB, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        Thread big = Thread.ofPlatform().start(() -> budget.run(50 * MIB, () -> {
+            started.countDown();
+            await(finish);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(budget.inUseBytes()).isEqualTo(2 * MIB);
+
+        // Um pequeno aguarda o grande terminar
+        Thread small = Thread.ofPlatform().start(() -> budget.run(1024, () -> { }));
+        small.join(200);
+        assertThat(small.isAlive()).isTrue();
+
+        finish.countDown();
+        big.join(5_000);
+        small.join(5_000);
+        assertThat(small.isAlive()).isFalse();
+        assertThat(budget.inUseBytes()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
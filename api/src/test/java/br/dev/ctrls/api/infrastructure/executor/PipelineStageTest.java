@@ -0,0 +1,82 @@
+package br.dev.ctrls.api.infrastructure.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários do estágio do pipeline: hand-off bloqueante e encerramento.
+ */
+class PipelineStageTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PipelineStage stage = new PipelineStage("render", 1, 1, 5, meterRegistry);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        stage.destroy();
+    }
+
+    @Test
+    void shouldBlockProducerWhileQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        stage.submit(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        stage.submit(() -> { });
+        assertThat(stage.queuedCount()).isEqualTo(1);
+
+        // Fila cheia: o terceiro hand-off só completa quando o worker libera uma vaga
+        CountDownLatch handedOff = new CountDownLatch(1);
+        Thread producer = Thread.ofVirtual().start(() -> {
+            try {
+                stage.submit(() -> { });
+                handedOff.countDown();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(handedOff.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        release.countDown();
+        assertThat(handedOff.await(5, TimeUnit.SECONDS)).isTrue();
+        producer.join();
+    }
+
+    @Test
+    void shouldRecordWaitAndServiceTimes() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        stage.submit(done::countDown);
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        stage.destroy();
+
+        assertThat(meterRegistry.get("submission.stage.wait").tag("stage", "render").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("submission.stage.service").tag("stage", "render").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectAfterShutdown() throws Exception {
+        stage.destroy();
+
+        assertThatThrownBy(() -> stage.submit(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package br.dev.ctrls.api.infrastructure.executor;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de vazão sustentada (submissões/s) dos modos do submissionTaskExecutor.
+ *
+ * CENÁRIO:
+ * - Feegow simulado por sleeps: listPatients + createPatient + uploadPatientFile
+ * - Produtor único respeitando availableCapacity() (backpressure, sem transbordo)
+ * - Mesmo volume de submissões para os dois modos
+ *
+ * Executar com: ./mvnw test -Pbenchmark -Dtest=SubmissionExecutorBenchmarkTest
+ */
+@Tag("benchmark")
+class SubmissionExecutorBenchmarkTest {
+
+    private static final int SUBMISSIONS = 1_000;
+
+    // Latências simuladas do Feegow por submissão
+    private static final Duration LIST_PATIENTS = Duration.ofMillis(20);
+    private static final Duration CREATE_PATIENT = Duration.ofMillis(15);
+    private static final Duration UPLOAD_FILE = Duration.ofMillis(40);
+
+    @Test
+    void compareSustainedThroughput() throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(5);
+        pool.setMaxPoolSize(10);
+        pool.setQueueCapacity(100);
+        pool.setThreadNamePrefix("bench-platform-");
+        pool.setRejectedExecutionHandler((runnable, executor) -> rejected.incrementAndGet());
+        pool.initialize();
+
+        PlatformSubmissionExecutor platform = new PlatformSubmissionExecutor(pool);
+        VirtualThreadSubmissionExecutor virtual = new VirtualThreadSubmissionExecutor(
+                "bench-vt-", 200, 100, 10, runnable -> rejected.incrementAndGet());
+
+        try {
+            double platformRate = measure(platform);
+            double virtualRate = measure(virtual);
+
+            System.out.printf("%n[benchmark] %d submissões | Feegow simulado: %d ms por submissão%n",
+                    SUBMISSIONS, LIST_PATIENTS.plus(CREATE_PATIENT).plus(UPLOAD_FILE).toMillis());
+            System.out.printf("[benchmark] platform (core=5, max=10, queue=100): %8.1f submissões/s%n", platformRate);
+            System.out.printf("[benchmark] virtual  (maxConcurrency=200):         %8.1f submissões/s%n", virtualRate);
+            System.out.printf("[benchmark] ganho: %.1fx%n", virtualRate / platformRate);
+
+            assertThat(rejected).hasValue(0);
+        } finally {
+            platform.destroy();
+            virtual.destroy();
+        }
+    }
+
+    private double measure(SubmissionExecutor executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(SUBMISSIONS);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            while (executor.availableCapacity() == 0) {
+                Thread.sleep(1);
+            }
+            executor.execute(() -> {
+                simulateFeegowSubmission();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return SUBMISSIONS / elapsedSeconds;
+    }
+
+    private static void simulateFeegowSubmission() {
+        try {
+            Thread.sleep(LIST_PATIENTS);
+            Thread.sleep(CREATE_PATIENT);
+            Thread.sleep(UPLOAD_FILE);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
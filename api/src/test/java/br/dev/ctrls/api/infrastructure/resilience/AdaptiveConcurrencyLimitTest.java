@@ -0,0 +1,71 @@
+package br.dev.ctrls.api.infrastructure.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários do ajuste AIMD do limite de concorrência.
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(5000);
+
+    private AdaptiveConcurrencyLimit newLimit(int initial) {
+        return new AdaptiveConcurrencyLimit(initial, 1, 20, 0.5, 1000, 10);
+    }
+
+    @Test
+    void shouldDecreaseMultiplicativelyOnOverload() throws Exception {
+        AdaptiveConcurrencyLimit limit = newLimit(10);
+
+        assertThat(limit.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        limit.onDropped();
+
+        assertThat(limit.getLimit()).isEqualTo(5);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldTreatSlowResponsesAsOverload() throws Exception {
+        AdaptiveConcurrencyLimit limit = newLimit(10);
+
+        assertThat(limit.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        limit.onSuccess(SLOW_NANOS);
+
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldIncreaseAdditivelyWhenLimitIsInUse() throws Exception {
+        AdaptiveConcurrencyLimit limit = newLimit(2);
+
+        // Janelas completas com o limite ocupado: cresce ~1 por janela
+        for (int window = 0; window < 3; window++) {
+            int current = limit.getLimit();
+            for (int i = 0; i < current; i++) {
+                assertThat(limit.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+            }
+            for (int i = 0; i < current; i++) {
+                limit.onSuccess(FAST_NANOS);
+            }
+        }
+
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectWhenLimitIsFullAndWaitExpires() throws Exception {
+        AdaptiveConcurrencyLimit limit = newLimit(1);
+
+        assertThat(limit.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(limit.tryAcquire(20, TimeUnit.MILLISECONDS)).isFalse();
+
+        limit.onIgnored();
+        assertThat(limit.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(limit.getLimit()).isEqualTo(1);
+    }
+}
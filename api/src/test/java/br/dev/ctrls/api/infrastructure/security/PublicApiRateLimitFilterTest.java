@@ -0,0 +1,152 @@
+package br.dev.ctrls.api.infrastructure.security;
+
+import br.dev.ctrls.api.infrastructure.config.props.RateLimiterProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários do rate limit dos formulários públicos (Redis substituído por um mapa em memória).
+ */
+class PublicApiRateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PublicApiRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.getPublicApi().setBucketCapacity(3);
+        properties.getPublicApi().setRefillTokens(3);
+        properties.getPublicApi().setRefillSeconds(60);
+        properties.getPublicApi().setFormBucketCapacity(4);
+        properties.getPublicApi().setFormRefillTokens(4);
+        properties.getPublicApi().setFormRefillSeconds(60);
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new PublicApiRateLimitFilter(new InMemoryProxyManager(), properties, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void shouldReturn429WithRetryAfterWhenIpExceedsLimit() throws Exception {
+        String uri = "/api/public/forms/" + UUID.randomUUID();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(call(uri, "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse rejected = call(uri, "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isBetween(1L, 60L);
+        assertThat(meterRegistry.get("public.ratelimit").tags("result", "rejected", "scope", "ip").counter().count())
+                .isEqualTo(1.0);
+        // Outro IP não é afetado
+        assertThat(call(uri, "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldLimitFormAcrossIps() throws Exception {
+        String uri = "/api/public/forms/" + UUID.randomUUID() + "/submit";
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(call(uri, "10.0.1." + i).getStatus()).isEqualTo(200);
+        }
+
+        assertThat(call(uri, "10.0.1.99").getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.get("public.ratelimit").tags("result", "rejected", "scope", "form").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldIgnoreNonPublicPaths() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(call("/api/submissions", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+        assertThat(PublicApiRateLimitFilter.formId("/api/public/forms/nao-e-uuid")).isNull();
+    }
+
+    private MockHttpServletResponse call(String uri, String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    /**
+     * ProxyManager compare-and-swap sobre um mapa, no lugar do Redis.
+     */
+    private static final class InMemoryProxyManager extends AbstractCompareAndSwapBasedProxyManager<byte[]> {
+
+        private final Map<ByteBuffer, byte[]> states = new ConcurrentHashMap<>();
+
+        private InMemoryProxyManager() {
+            super(ClientSideConfig.getDefault());
+        }
+
+        @Override
+        protected CompareAndSwapOperation beginCompareAndSwapOperation(byte[] key) {
+            ByteBuffer id = ByteBuffer.wrap(key);
+            return new CompareAndSwapOperation() {
+                @Override
+                public Optional<byte[]> getStateData(Optional<Long> timeoutNanos) {
+                    return Optional.ofNullable(states.get(id));
+                }
+
+                @Override
+                public boolean compareAndSwap(byte[] originalData, byte[] newData, RemoteBucketState newState,
+                                              Optional<Long> timeoutNanos) {
+                    if (originalData == null) {
+                        return states.putIfAbsent(id, newData) == null;
+                    }
+                    boolean[] swapped = new boolean[1];
+                    states.computeIfPresent(id, (k, current) -> {
+                        swapped[0] = Arrays.equals(current, originalData);
+                        return swapped[0] ? newData : current;
+                    });
+                    return swapped[0];
+                }
+            };
+        }
+
+        @Override
+        protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(byte[] key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeProxy(byte[] key) {
+            states.remove(ByteBuffer.wrap(key));
+        }
+
+        @Override
+        protected CompletableFuture<Void> removeAsync(byte[] key) {
+            removeProxy(key);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public boolean isAsyncModeSupported() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package br.dev.ctrls.api.web.rest;
+
+import br.dev.ctrls.api.application.service.form.PublicFormCache;
+import br.dev.ctrls.api.application.service.form.PublicFormPayload;
+import br.dev.ctrls.api.application.service.submission.SubmissionService;
+import br.dev.ctrls.api.infrastructure.config.props.PublicFormProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes unitários da negociação de codificação e do GET condicional do formulário público.
+ */
+class PublicFormControllerTest {
+
+    private static final UUID FORM = UUID.randomUUID();
+    private static final Instant UPDATED_AT = Instant.parse("2026-03-10T12:00:00Z");
+
+    private MockMvc mockMvc;
+    private PublicFormPayload payload;
+
+    @BeforeEach
+    void setUp() {
+        payload = PublicFormPayload.of("{\"title\":\"Anamnese\"}".getBytes(StandardCharsets.UTF_8),
+                "abc123", UPDATED_AT);
+        PublicFormCache cache = mock(PublicFormCache.class);
+        when(cache.find(FORM)).thenReturn(Optional.of(payload));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new PublicFormController(cache, mock(SubmissionService.class), new PublicFormProperties())).build();
+    }
+
+    @Test
+    void shouldServeCachedBytesWithValidatorsAndEdgeCachePolicy() throws Exception {
+        MvcResult gzip = mockMvc.perform(get("/api/public/forms/{uuid}", FORM)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-gzip\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+                        "max-age=60, public, s-maxage=300, stale-while-revalidate=60"))
+                .andReturn();
+        assertThat(gzip.getResponse().getContentAsByteArray()).isEqualTo(payload.gzip());
+
+        MvcResult identity = mockMvc.perform(get("/api/public/forms/{uuid}", FORM))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andReturn();
+        assertThat(identity.getResponse().getContentAsByteArray()).isEqualTo(payload.json());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForCurrentVersion() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/public/forms/{uuid}", FORM)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc123-gzip\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-gzip\""))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+
+        mockMvc.perform(get("/api/public/forms/{uuid}", FORM)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE,
+                                DateTimeFormatter.RFC_1123_DATE_TIME.format(UPDATED_AT.atZone(ZoneOffset.UTC))))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldServeFullBodyForStaleVersion() throws Exception {
+        mockMvc.perform(get("/api/public/forms/{uuid}", FORM)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"versao-anterior-gzip\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-gzip\""));
+    }
+}
@@ -0,0 +1,257 @@
+package br.dev.ctrls.api.web.rest;
+
+import br.dev.ctrls.api.application.service.form.PublicFormCache;
+import br.dev.ctrls.api.application.service.submission.SubmissionService;
+import br.dev.ctrls.api.domain.clinic.Clinic;
+import br.dev.ctrls.api.domain.form.FormTemplate;
+import br.dev.ctrls.api.domain.form.repository.FormTemplateRepository;
+import br.dev.ctrls.api.domain.user.Doctor;
+import br.dev.ctrls.api.infrastructure.config.props.PublicFormProperties;
+import br.dev.ctrls.api.web.dto.FormPublicViewDTO;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark HTTP (estilo wrk) de GET /api/public/forms/{uuid} em um Tomcat embarcado real.
+ *
+ * IMPLEMENTAÇÕES (ambas com o formulário já em cache):
+ * - Anterior: DTO em cache, serializado pelo Jackson e comprimido pelo server.compression a cada requisição
+ * - Payload pronto: bytes JSON/gzip do PublicFormPayload escritos direto na resposta
+ *
+ * Clientes concorrentes com keep-alive e Accept-Encoding: gzip; formulário de 40 perguntas.
+ * Rodadas intercaladas, mediana de requisições/s.
+ *
+ * Executar com: ./mvnw test -Pbenchmark -Dtest=PublicFormEndpointBenchmarkTest
+ */
+@Tag("benchmark")
+class PublicFormEndpointBenchmarkTest {
+
+    private static final int FIELDS = 40;
+    private static final int CLIENTS = 8;
+    private static final long WARMUP_MS = 5_000;
+    private static final int ROUNDS = 5;
+    private static final long ROUND_MS = 2_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void compareThroughput() throws Exception {
+        // Sem Spring Boot o logback fica em DEBUG: o log por requisição dominaria a medição
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        FormTemplate template = template();
+        FormTemplateRepository repository = mock(FormTemplateRepository.class);
+        when(repository.findByPublicUuid(template.getPublicUuid())).thenReturn(Optional.of(template));
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        PublicFormCache cache = new PublicFormCache(repository, redisTemplate, objectMapper,
+                new PublicFormProperties(), new SimpleMeterRegistry());
+        FormPublicViewDTO view = FormPublicViewDTO.fromEntity(template);
+
+        try (AnnotationConfigServletWebServerApplicationContext context =
+                     new AnnotationConfigServletWebServerApplicationContext()) {
+            context.registerBean(PublicFormCache.class, () -> cache);
+            context.registerBean(SubmissionService.class, () -> mock(SubmissionService.class));
+            context.registerBean(PublicFormProperties.class, PublicFormProperties::new);
+            context.registerBean(LegacyFormController.class, () -> new LegacyFormController(view));
+            context.register(BenchmarkServer.class);
+            context.refresh();
+
+            String base = "http://localhost:" + context.getWebServer().getPort();
+            URI legacy = URI.create(base + "/legacy/forms/" + template.getPublicUuid());
+            URI payload = URI.create(base + "/api/public/forms/" + template.getPublicUuid());
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+            try {
+                int legacyBytes = assertGzipped(client, legacy);
+                int payloadBytes = assertGzipped(client, payload);
+
+                measure(clients, client, legacy, WARMUP_MS);
+                measure(clients, client, payload, WARMUP_MS);
+
+                double[] legacyRounds = new double[ROUNDS];
+                double[] payloadRounds = new double[ROUNDS];
+                for (int round = 0; round < ROUNDS; round++) {
+                    legacyRounds[round] = measure(clients, client, legacy, ROUND_MS);
+                    payloadRounds[round] = measure(clients, client, payload, ROUND_MS);
+                }
+                double before = median(legacyRounds);
+                double after = median(payloadRounds);
+
+                System.out.printf("%n[benchmark] GET formulário público (%d perguntas, %d bytes JSON, %d clientes)%n",
+                        FIELDS, cache.find(template.getPublicUuid()).orElseThrow().json().length, CLIENTS);
+                System.out.printf("[benchmark] Anterior (Jackson + server.compression): %8.0f req/s (%d bytes gzip)%n",
+                        before, legacyBytes);
+                System.out.printf("[benchmark] Payload pré-serializado e pré-comprimido: %8.0f req/s (%d bytes gzip, %.2fx)%n",
+                        after, payloadBytes, after / before);
+
+                assertThat(after).isGreaterThan(before);
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    private static int assertGzipped(HttpClient client, URI uri) throws Exception {
+        HttpResponse<byte[]> response = client.send(request(uri), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).contains("gzip");
+        return response.body().length;
+    }
+
+    private static double measure(ExecutorService clients, HttpClient client, URI uri, long millis) throws Exception {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long start = System.nanoTime();
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            results.add(clients.submit(() -> {
+                long count = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpResponse<byte[]> response = client.send(request(uri), HttpResponse.BodyHandlers.ofByteArray());
+                    if (response.statusCode() == 200) {
+                        count++;
+                    }
+                }
+                return count;
+            }));
+        }
+        long total = 0;
+        for (Future<Long> result : results) {
+            total += result.get(millis + 10_000, TimeUnit.MILLISECONDS);
+        }
+        return total / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static HttpRequest request(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip").GET().build();
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private FormTemplate template() throws Exception {
+        List<Map<String, Object>> fields = new ArrayList<>();
+        for (int i = 0; i < FIELDS; i++) {
+            fields.add(i % 4 == 0
+                    ? Map.of("id", "q" + i, "label", "Pergunta número " + i + " da anamnese?", "type", "checkbox",
+                            "options", List.of("Nunca", "Raramente", "Às vezes", "Frequentemente"))
+                    : Map.of("id", "q" + i, "label", "Pergunta número " + i + " da anamnese?", "type", "text",
+                            "required", i % 2 == 0));
+        }
+        Clinic clinic = Clinic.builder()
+                .id(UUID.randomUUID())
+                .name("Clínica Cardiológica São Paulo")
+                .address("Av. Paulista, 1000 - São Paulo/SP")
+                .logoUrl("https://cdn.clinica.com/logo.png")
+                .primaryColor("#0066CC")
+                .build();
+        Doctor doctor = Doctor.builder()
+                .id(UUID.randomUUID())
+                .name("Dr. João Silva")
+                .bio("Cardiologista com 15 anos de experiência em prevenção e reabilitação cardíaca.")
+                .profilePhotoUrl("https://cdn.clinica.com/medico.jpg")
+                .build();
+        return FormTemplate.builder()
+                .id(UUID.randomUUID())
+                .updatedAt(Instant.now())
+                .title("Anamnese Cardiológica")
+                .description("Formulário de avaliação cardíaca pré-consulta")
+                .schemaJson(objectMapper.writeValueAsString(fields))
+                .clinic(clinic)
+                .doctor(doctor)
+                .build();
+    }
+
+    /**
+     * Tomcat com a mesma compressão do application.properties e só os controllers do benchmark.
+     */
+    @Configuration
+    @EnableWebMvc
+    @Import(PublicFormController.class)
+    static class BenchmarkServer {
+
+        @Bean
+        TomcatServletWebServerFactory tomcatServletWebServerFactory() {
+            Compression compression = new Compression();
+            compression.setEnabled(true);
+            compression.setMimeTypes(new String[]{"application/json"});
+            compression.setMinResponseSize(DataSize.ofBytes(1024));
+            TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+            factory.setCompression(compression);
+            return factory;
+        }
+
+        @Bean
+        DispatcherServlet dispatcherServlet() {
+            return new DispatcherServlet();
+        }
+
+        @Bean
+        ServletRegistrationBean<DispatcherServlet> dispatcherServletRegistration(DispatcherServlet dispatcherServlet) {
+            return new ServletRegistrationBean<>(dispatcherServlet, "/");
+        }
+    }
+
+    /**
+     * Endpoint como era antes do payload pré-serializado: DTO em cache devolvido ao Jackson.
+     */
+    @RestController
+    static class LegacyFormController {
+
+        private final FormPublicViewDTO view;
+
+        LegacyFormController(FormPublicViewDTO view) {
+            this.view = view;
+        }
+
+        @GetMapping("/legacy/forms/{uuid}")
+        FormPublicViewDTO getForm(@PathVariable UUID uuid) {
+            return view;
+        }
+    }
+}
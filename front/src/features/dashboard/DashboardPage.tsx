@@ -7,13 +7,15 @@ import { Badge } from '../../components/ui/Badge';
 import { Button } from '../../components/ui/Button';
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '../../components/ui/Card';
 import { formatDateTimeBR } from '../../lib/utils';
-import { LogOut, ChevronLeft, ChevronRight, FileText, User } from 'lucide-react';
+import { LogOut, ChevronLeft, ChevronRight, FileText, User, Download } from 'lucide-react';
 import type { SubmissionStatus } from '../../types/api';
 
 // Status badge configuration
 const getStatusBadge = (status: SubmissionStatus) => {
   const config = {
     PENDING: { variant: 'warning' as const, label: 'Pendente' },
+    PROCESSING: { variant: 'warning' as const, label: 'Processando' },
+    PARKED: { variant: 'outline' as const, label: 'Aguardando Feegow' },
     PROCESSED: { variant: 'success' as const, label: 'Processado' },
     ERROR: { variant: 'destructive' as const, label: 'Erro' },
     SYNC_ERROR: { variant: 'outline' as const, label: 'Erro de Sync' },
@@ -25,6 +27,7 @@ const getStatusBadge = (status: SubmissionStatus) => {
 export default function DashboardPage() {
   const navigate = useNavigate();
   const [page, setPage] = useState(0);
+  const [exporting, setExporting] = useState(false);
   const pageSize = 10;
 
   const { data, isLoading, error } = useQuery({
@@ -32,6 +35,38 @@ export default function DashboardPage() {
     queryFn: () => submissionsApi.getSubmissions({ page, size: pageSize }),
   });
 
+  // Abre o PDF em nova aba (blob autenticado; o link direto não levaria o token)
+  const handleOpenPdf = async (id: string) => {
+    try {
+      const blob = await submissionsApi.downloadPdf(id);
+      const url = URL.createObjectURL(blob);
+      window.open(url, '_blank');
+      setTimeout(() => URL.revokeObjectURL(url), 60_000);
+    } catch {
+      alert('Erro ao baixar o PDF. Tente novamente.');
+    }
+  };
+
+  // Baixa o ZIP com os PDFs dos últimos 30 dias
+  const handleExport = async () => {
+    setExporting(true);
+    try {
+      const to = new Date();
+      const from = new Date(to.getTime() - 30 * 24 * 60 * 60 * 1000);
+      const blob = await submissionsApi.exportPdfs(from.toISOString(), to.toISOString());
+      const url = URL.createObjectURL(blob);
+      const link = document.createElement('a');
+      link.href = url;
+      link.download = 'anamneses.zip';
+      link.click();
+      setTimeout(() => URL.revokeObjectURL(url), 60_000);
+    } catch {
+      alert('Erro ao exportar os PDFs. Tente novamente.');
+    } finally {
+      setExporting(false);
+    }
+  };
+
   const handleLogout = () => {
     authStorage.clearAuth();
     navigate('/login');
@@ -56,11 +91,17 @@ export default function DashboardPage() {
       {/* Main Content */}
       <main className="container mx-auto px-4 py-8">
         <Card>
-          <CardHeader>
-            <CardTitle>Submissões de Formulários</CardTitle>
-            <CardDescription>
-              Visualize e gerencie todas as submissões recebidas
-            </CardDescription>
+          <CardHeader className="flex flex-row items-start justify-between space-y-0">
+            <div className="space-y-1.5">
+              <CardTitle>Submissões de Formulários</CardTitle>
+              <CardDescription>
+                Visualize e gerencie todas as submissões recebidas
+              </CardDescription>
+            </div>
+            <Button variant="outline" size="sm" onClick={handleExport} disabled={exporting}>
+              <Download className="mr-2 h-4 w-4" />
+              {exporting ? 'Exportando...' : 'Exportar 30 dias (ZIP)'}
+            </Button>
           </CardHeader>
           <CardContent>
             {/* Loading State */}
@@ -104,12 +145,15 @@ export default function DashboardPage() {
                         <th className="h-12 px-4 text-left align-middle font-medium text-muted-foreground">
                           Status
                         </th>
+                        <th className="h-12 px-4 text-right align-middle font-medium text-muted-foreground">
+                          PDF
+                        </th>
                       </tr>
                     </thead>
                     <tbody>
                       {data.content.length === 0 ? (
                         <tr>
-                          <td colSpan={4} className="h-24 text-center text-muted-foreground">
+                          <td colSpan={5} className="h-24 text-center text-muted-foreground">
                             Nenhuma submissão encontrada
                           </td>
                         </tr>
@@ -132,6 +176,16 @@ export default function DashboardPage() {
                                   {statusConfig.label}
                                 </Badge>
                               </td>
+                              <td className="p-4 align-middle text-right">
+                                <Button
+                                  variant="ghost"
+                                  size="sm"
+                                  onClick={() => handleOpenPdf(submission.id)}
+                                  aria-label="Abrir PDF"
+                                >
+                                  <Download className="h-4 w-4" />
+                                </Button>
+                              </td>
                             </tr>
                           );
                         })
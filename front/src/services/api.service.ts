@@ -52,5 +52,20 @@ export const submissionsApi = {
     });
     return response.data;
   },
+
+  // PDF da anamnese (gerado pelo pipeline; o backend serve o arquivo armazenado)
+  downloadPdf: async (id: string): Promise<Blob> => {
+    const response = await api.get<Blob>(`/api/submissions/${id}/pdf`, { responseType: 'blob' });
+    return response.data;
+  },
+
+  // ZIP com os PDFs do período [from, to) (datas ISO-8601)
+  exportPdfs: async (from: string, to: string): Promise<Blob> => {
+    const response = await api.get<Blob>('/api/submissions/export', {
+      params: { from, to },
+      responseType: 'blob',
+    });
+    return response.data;
+  },
 };
 
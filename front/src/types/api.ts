@@ -70,7 +70,7 @@ export interface SubmissionRequest {
 // ============================================
 // Dashboard Types
 // ============================================
-export type SubmissionStatus = 'PENDING' | 'PROCESSED' | 'ERROR' | 'SYNC_ERROR';
+export type SubmissionStatus = 'PENDING' | 'PROCESSING' | 'PARKED' | 'PROCESSED' | 'ERROR' | 'SYNC_ERROR';
 
 export interface SubmissionSummaryDTO {
   id: string;